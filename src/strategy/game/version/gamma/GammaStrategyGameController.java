@@ -1,175 +0,0 @@
-/**
- * 
- */
-package strategy.game.version.gamma;
-
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Iterator;
-
-import strategy.common.StrategyException;
-import strategy.game.common.Coordinate;
-import strategy.game.common.Location;
-import strategy.game.common.Location2D;
-import strategy.game.common.Piece;
-import strategy.game.common.PieceLocationDescriptor;
-import strategy.game.version.StrategyGameControllerImpl;
-
-/**
- * @author Alex C
- * @version September 24, 2013
- */
-public class GammaStrategyGameController extends StrategyGameControllerImpl {
-	
-	public GammaStrategyGameController(Collection<PieceLocationDescriptor> redPieces, 
-			Collection<PieceLocationDescriptor> bluePieces) throws StrategyException {
-		super(redPieces, bluePieces);
-	}
-	
-	/**
-	 * Validates a collection of pieces for valid PieceType and Location
-	 * Throws StrategyException if the piece collection is invalid
-	 * @param playerPieces the collection of pieces to be verified
-	 * @throws StrategyException
-	 */
-	protected void validatePiecesAndLocations(Collection<PieceLocationDescriptor> playerPieces) 
-			throws StrategyException 
-	{
-		if (playerPieces == null) {
-			throw new StrategyException("Given Null Configurations");
-		}
-		
-		if (playerPieces.size() != NUM_PIECES) {
-			throw new StrategyException("Invalid Number of Pieces");
-		}
-		
-		// number of types of pieces each player is allowed to have
-		int numFlags = 1;
-		int numMarshal = 1;
-		int numColonel = 2;
-		int numCaptain = 2;
-		int numLieutenant = 3;
-		int numSergeant = 3;
-		
-		PieceLocationDescriptor thisPiece;
-		final PieceLocationDescriptor firstPiece;
-		int thisPieceLocation;
-		int spaceTotal = 0;
-		
-		final Iterator<PieceLocationDescriptor> pieceIter, firstPieceIter;
-		pieceIter = playerPieces.iterator();
-		firstPieceIter = playerPieces.iterator();
-		
-		// determine which color this collection is 
-		firstPiece = firstPieceIter.next();
-		// set the spaceTotal to the appropriate number
-		switch(firstPiece.getPiece().getOwner()) 
-		{
-			case RED:
-				spaceTotal = RED_SPACE_TOTAL;
-				break;
-			case BLUE:
-				spaceTotal = BLUE_SPACE_TOTAL;
-				break;
-		}
-		
-		while (pieceIter.hasNext()) 
-		{
-			thisPiece = pieceIter.next();
-			// hash location to simple number
-			thisPieceLocation = thisPiece.getLocation().getCoordinate(Coordinate.X_COORDINATE) 
-					+ (thisPiece.getLocation().getCoordinate(Coordinate.Y_COORDINATE) * 6) + 1;
-			
-			spaceTotal -= thisPieceLocation;
-			
-			// subtract piece from count of pieces
-			switch(thisPiece.getPiece().getType()) 
-			{
-				case FLAG:
-					numFlags--;
-					break;
-				case MARSHAL:
-					numMarshal--;
-					break;
-				case COLONEL:
-					numColonel--;
-					break;
-				case CAPTAIN:
-					numCaptain--;
-					break;
-				case LIEUTENANT:
-					numLieutenant--;
-					break;
-				case SERGEANT:
-					numSergeant--;
-					break;
-				default:
-					throw new StrategyException("Invalid Piece");
-			}
-		}
-
-		// if any of the counts are not 0, there was an invalid combination of pieces
-		if (numFlags != 0 || numMarshal != 0 || numColonel != 0 || numCaptain != 0 
-				|| numLieutenant != 0 || numSergeant != 0) 
-		{
-			throw new StrategyException("Invalid Combination of Pieces"); 
-		}
-		
-		// if the space total is not exactly 0, there was an invalid placement
-		if (spaceTotal != 0)
-		{
-			throw new StrategyException("Invalid Placement of Pieces");
-		}
-	}
-	
-	/**
-	 * 
-	 */
-	protected void setVariables(Collection<PieceLocationDescriptor> redPieces, 
-			Collection<PieceLocationDescriptor> bluePieces) 
-	{
-		gameStarted = false;
-		gameOver = false;
-		lastPlayerColor = null;
-		redSetup = redPieces;
-		blueSetup = bluePieces;
-		board = new HashMap<Location,Piece>();
-		lastRedPieceLocation = null;
-		lastBluePieceLocation = null;
-		redRepetitionFlag = false;
-		blueRepetitionFlag = false;
-		numRedMovablePieces = 11;
-		numBlueMovablePieces = 11;
-		
-		final Location[] chokeLocs = { 
-				new Location2D(2,2),
-				new Location2D(2,3), 
-				new Location2D(3,2), 
-				new Location2D(3,3) };
-		
-		NUM_PIECES = 12;
-		CHOKE_POINT_LOCATIONS = chokeLocs;
-		BOARD_WIDTH = 6;
-		BOARD_HEIGHT = 6;
-		// based on simple formula for translating locations( (0,0) = 1, (1,1) = 2 ...  (4,5) = 35,  (5,5) = 36)
-		// when pieces are located at their correct locations, their location total should equal these numbers
-		RED_SPACE_TOTAL = 78;
-		BLUE_SPACE_TOTAL = 366;
-	}
-	
-	/**
-	 * Initializes the board to contain all the spaces of the board
-	 * Adds the validated red and blue pieces to the board
-	 * Additionally, adds choke points to the board
-	 */
-	@Override
-	protected void initializeBoard() {
-		super.initializeBoard();
-		
-		// set choke pieces
-		for (int i = 0; i < CHOKE_POINT_LOCATIONS.length; i++) {
-			board.put(CHOKE_POINT_LOCATIONS[i], CHOKE_POINT);
-		}
-	}
-	
-}
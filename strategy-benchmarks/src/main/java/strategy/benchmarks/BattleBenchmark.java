@@ -0,0 +1,112 @@
+/**
+ * 
+ */
+package strategy.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.GameVersion;
+import strategy.game.common.Location;
+import strategy.game.common.Location2D;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.version.epsilon.EpsilonStrategyGameController;
+
+/**
+ * Time of a single Epsilon battle for each of the special cases. Every
+ * invocation puts the two pieces back on the board before they fight.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleBenchmark {
+	
+	/**
+	 * The battles being measured, red always attacks
+	 */
+	public enum Case {
+		PLAIN(PieceType.MARSHAL, PieceType.CAPTAIN, 1),
+		BOMB(PieceType.CAPTAIN, PieceType.BOMB, 1),
+		MINER_BOMB(PieceType.MINER, PieceType.BOMB, 1),
+		SPY_MARSHAL(PieceType.SPY, PieceType.MARSHAL, 1),
+		LIEUTENANT_DRAW(PieceType.FIRST_LIEUTENANT, PieceType.LIEUTENANT, 1),
+		FIRST_LT_TWO_SPACE(PieceType.FIRST_LIEUTENANT, PieceType.SERGEANT, 2),
+		FIRST_FLAG(PieceType.SCOUT, PieceType.FLAG, 1);
+		
+		private final PieceType attacker;
+		private final PieceType defender;
+		private final int distance;
+		
+		private Case(PieceType attacker, PieceType defender, int distance) {
+			this.attacker = attacker;
+			this.defender = defender;
+			this.distance = distance;
+		}
+	}
+	
+	@Param
+	public Case battle;
+	
+	private BattleBoard board;
+	private PieceLocationDescriptor attacker;
+	private PieceLocationDescriptor defender;
+	
+	@Setup
+	public void setup() throws StrategyException {
+		board = new BattleBoard(Setups.setup(GameVersion.EPSILON, PlayerColor.RED), 
+				Setups.setup(GameVersion.EPSILON, PlayerColor.BLUE));
+		
+		// the first column between the two armies is empty
+		final Location to = new Location2D(0, 5);
+		final Location from = new Location2D(0, 5 - battle.distance);
+		attacker = new PieceLocationDescriptor(new Piece(battle.attacker, PlayerColor.RED), from);
+		defender = new PieceLocationDescriptor(new Piece(battle.defender, PlayerColor.BLUE), to);
+	}
+	
+	@Benchmark
+	public long battle() {
+		return board.fight(attacker, defender);
+	}
+	
+	/**
+	 * Epsilon game that lets red fight the same battle over and over
+	 */
+	static class BattleBoard extends EpsilonStrategyGameController {
+		
+		BattleBoard(Collection<PieceLocationDescriptor> red, Collection<PieceLocationDescriptor> blue) 
+				throws StrategyException {
+			super(red, blue, null);
+		}
+		
+		long fight(PieceLocationDescriptor from, PieceLocationDescriptor to) {
+			setPieceAt(from.getLocation(), from.getPiece());
+			setPieceAt(to.getLocation(), to.getPiece());
+			// red is moving and neither flag has been taken yet
+			lastPlayerColor = PlayerColor.BLUE;
+			restoreVariantState(0);
+			return battle(board.indexOf(from.getLocation()), board.indexOf(to.getLocation()));
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/**
+ * 
+ */
+package strategy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.GameVersion;
+import strategy.game.search.MaterialEvaluator;
+import strategy.game.search.MonteCarloResult;
+import strategy.game.search.MonteCarloSearch;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Time for a Monte Carlo tree search of the Epsilon starting position with a
+ * fixed number of playouts per thread, each up to 200 random moves long.
+ * Divide the playouts by the score to get the playouts per second per thread.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonteCarloBenchmark {
+	
+	private static final int PLAYOUTS = 1000;
+	
+	@Param({"1", "4"})
+	public int threads;
+	
+	private StrategyGameControllerImpl game;
+	private MonteCarloSearch search;
+	
+	@Setup
+	public void setup() throws StrategyException {
+		game = Setups.makeGame(GameVersion.EPSILON, Setups.setup(GameVersion.EPSILON, PlayerColor.RED), 
+				Setups.setup(GameVersion.EPSILON, PlayerColor.BLUE));
+		game.startGame();
+		search = new MonteCarloSearch(MaterialEvaluator::new, threads);
+		search.setPlayoutLimit(PLAYOUTS);
+	}
+	
+	@TearDown
+	public void stopHelpers() {
+		search.shutdown();
+	}
+	
+	@Benchmark
+	public MonteCarloResult search() {
+		return search.search(game);
+	}
+}
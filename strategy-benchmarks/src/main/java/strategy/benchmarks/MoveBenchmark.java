@@ -0,0 +1,114 @@
+/**
+ * 
+ */
+package strategy.benchmarks;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.GameVersion;
+import strategy.game.common.Location;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.version.BoardSpec;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Time of a single move() call. Every invocation replays the same opening of
+ * random legal moves on a fresh game, so the board changes the way it does in
+ * a real game, including battles.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveBenchmark {
+	
+	/** number of moves replayed per invocation */
+	private static final int OPENING_LENGTH = 40;
+	
+	@Param({"GAMMA", "DELTA", "EPSILON"})
+	public GameVersion version;
+	
+	private Collection<PieceLocationDescriptor> redSetup;
+	private Collection<PieceLocationDescriptor> blueSetup;
+	
+	private final PieceType[] pieces = new PieceType[OPENING_LENGTH];
+	private final Location[] froms = new Location[OPENING_LENGTH];
+	private final Location[] tos = new Location[OPENING_LENGTH];
+	
+	private StrategyGameControllerImpl game;
+	
+	@Setup(Level.Trial)
+	public void recordOpening() throws StrategyException {
+		redSetup = Setups.setup(version, PlayerColor.RED);
+		blueSetup = Setups.setup(version, PlayerColor.BLUE);
+		
+		final MoveBuffer moves = new MoveBuffer();
+		// try seeds until a random game lasts long enough
+		for (long seed = 1; ; seed++) {
+			final Random random = new Random(seed);
+			final StrategyGameControllerImpl opening = Setups.makeGame(version, redSetup, blueSetup);
+			final BoardSpec spec = opening.getBoardSpec();
+			opening.startGame();
+			
+			PlayerColor color = PlayerColor.RED;
+			int i = 0;
+			while (i < OPENING_LENGTH && opening.generateLegalMoves(color, moves) > 0) {
+				final int move = moves.get(random.nextInt(moves.size()));
+				froms[i] = spec.getLocation(MoveBuffer.fromOf(move));
+				tos[i] = spec.getLocation(MoveBuffer.toOf(move));
+				pieces[i] = opening.getPieceAt(froms[i]).getType();
+				
+				if (opening.move(pieces[i], froms[i], tos[i]).getStatus() != MoveResultStatus.OK) {
+					break;
+				}
+				color = color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+				i++;
+			}
+			
+			if (i == OPENING_LENGTH) {
+				return;
+			}
+		}
+	}
+	
+	@Setup(Level.Invocation)
+	public void newGame() throws StrategyException {
+		game = Setups.makeGame(version, redSetup, blueSetup);
+		game.startGame();
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(OPENING_LENGTH)
+	public void move(Blackhole blackhole) throws StrategyException {
+		for (int i = 0; i < OPENING_LENGTH; i++) {
+			blackhole.consume(game.move(pieces[i], froms[i], tos[i]));
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/**
+ * 
+ */
+package strategy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.GameVersion;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.version.PlayoutKernel;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Time to play a whole Epsilon game of random legal moves with the playout
+ * kernel, going back to the starting position with copyFrom() every time.
+ * Compare with RandomGameBenchmark, which plays the same kind of game through
+ * move().
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayoutBenchmark {
+	
+	private static final int MAX_MOVES = 2000;
+	
+	private StrategyGameControllerImpl start;
+	private StrategyGameControllerImpl game;
+	private PlayoutKernel kernel;
+	
+	@Setup
+	public void setup() throws StrategyException {
+		start = Setups.makeGame(GameVersion.EPSILON, Setups.setup(GameVersion.EPSILON, PlayerColor.RED), 
+				Setups.setup(GameVersion.EPSILON, PlayerColor.BLUE));
+		start.startGame();
+		game = start.copy();
+		kernel = new PlayoutKernel(0);
+	}
+	
+	@Benchmark
+	public MoveResultStatus playout() {
+		game.copyFrom(start);
+		return kernel.playout(game, MAX_MOVES);
+	}
+}
@@ -0,0 +1,60 @@
+/**
+ * 
+ */
+package strategy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.GameVersion;
+import strategy.game.tournament.RandomBot;
+import strategy.game.tournament.TournamentResult;
+import strategy.game.tournament.TournamentRunner;
+
+/**
+ * Time to play a whole Epsilon game of random legal moves, the way the 
+ * tournament runner plays them. Every invocation plays the next seed, so the
+ * average is over many different games.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomGameBenchmark {
+	
+	private static final int MAX_MOVES = 2000;
+	
+	private TournamentRunner runner;
+	private long seed;
+	
+	@Setup
+	public void setup() {
+		final RandomBot bot = new RandomBot();
+		runner = new TournamentRunner(bot, bot, Setups.setup(GameVersion.EPSILON, PlayerColor.RED), 
+				Setups.setup(GameVersion.EPSILON, PlayerColor.BLUE), MAX_MOVES);
+		seed = 0;
+	}
+	
+	@Benchmark
+	public TournamentResult randomGame() {
+		final TournamentResult result = new TournamentResult();
+		runner.playGame(seed++, result);
+		return result;
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * 
+ */
+package strategy.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.GameVersion;
+import strategy.game.common.Location2D;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.version.MoveValidation;
+import strategy.game.version.delta.DeltaStrategyGameController;
+
+/**
+ * Time to validate long scout slides on a nearly empty Delta board, which is
+ * the path checking loop of checkScoutLocation
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoutSlideBenchmark {
+	
+	private ScoutBoard board;
+	
+	@Setup
+	public void setup() throws StrategyException {
+		board = new ScoutBoard(Setups.setup(GameVersion.DELTA, PlayerColor.RED), 
+				Setups.setup(GameVersion.DELTA, PlayerColor.BLUE));
+	}
+	
+	@Benchmark
+	public MoveValidation verticalSlide() {
+		// the whole first column
+		return board.check(0, 0, 0, 9);
+	}
+	
+	@Benchmark
+	public MoveValidation horizontalSlide() {
+		// along the bottom row
+		return board.check(0, 0, 9, 0);
+	}
+	
+	@Benchmark
+	public MoveValidation blockedSlide() {
+		// the blue bomb at (1,8) is in the way
+		return board.check(1, 1, 1, 9);
+	}
+	
+	/**
+	 * Delta game with the board cleared down to two scouts, a flag each and a blocker
+	 */
+	static class ScoutBoard extends DeltaStrategyGameController {
+		
+		ScoutBoard(Collection<PieceLocationDescriptor> red, Collection<PieceLocationDescriptor> blue) 
+				throws StrategyException {
+			super(red, blue);
+			clearBoard();
+			setPieceAt(new Location2D(0, 0), new Piece(PieceType.SCOUT, PlayerColor.RED));
+			setPieceAt(new Location2D(1, 1), new Piece(PieceType.SCOUT, PlayerColor.RED));
+			setPieceAt(new Location2D(9, 2), new Piece(PieceType.FLAG, PlayerColor.RED));
+			setPieceAt(new Location2D(1, 8), new Piece(PieceType.BOMB, PlayerColor.BLUE));
+			setPieceAt(new Location2D(8, 9), new Piece(PieceType.SCOUT, PlayerColor.BLUE));
+			setPieceAt(new Location2D(9, 7), new Piece(PieceType.FLAG, PlayerColor.BLUE));
+		}
+		
+		MoveValidation check(int fromX, int fromY, int toX, int toY) {
+			return checkLocations(fromY * spec.getWidth() + fromX, toY * spec.getWidth() + toX);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/**
+ * 
+ */
+package strategy.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.common.StrategyRuntimeException;
+import strategy.game.common.GameVersion;
+import strategy.game.search.MaterialEvaluator;
+import strategy.game.search.ParallelSearch;
+import strategy.game.search.SearchResult;
+import strategy.game.search.TranspositionTable;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Time for a fixed depth alpha-beta search of the Epsilon starting position,
+ * with an empty transposition table every time. Divide the node count of a
+ * search by the score to get the speed of the search in nodes per second.
+ * With more than one thread the search is a ParallelSearch, and the time is
+ * how long the main thread takes to finish the same depth.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+	
+	@Param({"4", "6"})
+	public int depth;
+	
+	@Param({"1", "4"})
+	public int threads;
+	
+	private StrategyGameControllerImpl game;
+	private TranspositionTable table;
+	private ParallelSearch search;
+	
+	@Setup
+	public void setup() throws StrategyException {
+		game = Setups.makeGame(GameVersion.EPSILON, Setups.setup(GameVersion.EPSILON, PlayerColor.RED), 
+				Setups.setup(GameVersion.EPSILON, PlayerColor.BLUE));
+		game.startGame();
+		table = new TranspositionTable(16);
+		search = new ParallelSearch(MaterialEvaluator::new, table, threads);
+		search.setMaxDepth(depth);
+	}
+	
+	@TearDown
+	public void stopHelpers() {
+		search.shutdown();
+	}
+	
+	@Setup(Level.Invocation)
+	public void clearTable() {
+		table.clear();
+	}
+	
+	@Benchmark
+	public SearchResult search() {
+		final SearchResult result = search.search(game);
+		if (result.getDepth() != depth) {
+			throw new StrategyRuntimeException("Search stopped early");
+		}
+		return result;
+	}
+}
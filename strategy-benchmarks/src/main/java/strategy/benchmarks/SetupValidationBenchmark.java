@@ -0,0 +1,109 @@
+/**
+ * 
+ */
+package strategy.benchmarks;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.GameVersion;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.version.SetupGenerator;
+import strategy.game.version.SetupValidator;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Time to create a game, which is dominated by validatePiecesAndLocations
+ * checking both starting configurations, against checking the configurations
+ * alone with the version's SetupValidator, one at a time or packed in batches,
+ * and the time to generate random valid setups with a SetupGenerator
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetupValidationBenchmark {
+	
+	private static final int BATCH_SIZE = 1024;
+	
+	@Param({"GAMMA", "DELTA", "EPSILON"})
+	public GameVersion version;
+	
+	private Collection<PieceLocationDescriptor> redSetup;
+	private Collection<PieceLocationDescriptor> blueSetup;
+	private SetupValidator validator;
+	private byte[] packedSetups;
+	private long[] valid;
+	private SetupGenerator generator;
+	private byte[] generatedSetups;
+	private Random random;
+	
+	@Setup
+	public void setup() {
+		redSetup = Setups.setup(version, PlayerColor.RED);
+		blueSetup = Setups.setup(version, PlayerColor.BLUE);
+		validator = Setups.validator(version);
+		
+		// the red setup with every other one spoiled by a second flag
+		final int numPieces = validator.getNumPieces();
+		packedSetups = new byte[BATCH_SIZE * numPieces];
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			validator.pack(redSetup, packedSetups, i * numPieces);
+			if (i % 2 == 1) {
+				packedSetups[i * numPieces + numPieces - 1] = (byte) PieceType.FLAG.ordinal();
+			}
+		}
+		valid = new long[(BATCH_SIZE + 63) / 64];
+		
+		generator = new SetupGenerator(validator);
+		generatedSetups = new byte[BATCH_SIZE * numPieces];
+		random = new Random(4233);
+	}
+	
+	@Benchmark
+	public StrategyGameControllerImpl makeGame() {
+		return Setups.makeGame(version, redSetup, blueSetup);
+	}
+	
+	@Benchmark
+	public boolean validate() {
+		return validator.isValid(redSetup) & validator.isValid(blueSetup);
+	}
+	
+	/**
+	 * Checks BATCH_SIZE packed setups, so the time per setup is the score divided by BATCH_SIZE
+	 */
+	@Benchmark
+	public int validateBatch() {
+		return validator.validateBatch(packedSetups, BATCH_SIZE, valid);
+	}
+	
+	/**
+	 * Generates BATCH_SIZE packed setups, so the time per setup is the score divided by BATCH_SIZE
+	 */
+	@Benchmark
+	public byte[] generateBatch() {
+		generator.nextBatch(random, generatedSetups, BATCH_SIZE);
+		return generatedSetups;
+	}
+}
@@ -0,0 +1,158 @@
+/**
+ * 
+ */
+package strategy.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.common.StrategyRuntimeException;
+import strategy.game.StrategyGameFactory;
+import strategy.game.common.GameVersion;
+import strategy.game.common.Location2D;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.version.SetupValidator;
+import strategy.game.version.StrategyGameControllerImpl;
+import strategy.game.version.delta.DeltaStrategyGameController;
+import strategy.game.version.epsilon.EpsilonStrategyGameController;
+import strategy.game.version.gamma.GammaStrategyGameController;
+
+/**
+ * The starting configurations used by the benchmarks. They are the same as 
+ * the ones in the JUnit tests of each version: red fills the board from the 
+ * bottom left corner and blue mirrors it from the top right corner.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public final class Setups {
+	
+	private static final PieceType[] GAMMA_PIECES = 
+	{
+		PieceType.LIEUTENANT, PieceType.LIEUTENANT, 
+		PieceType.SERGEANT, PieceType.SERGEANT,
+		PieceType.COLONEL, PieceType.CAPTAIN,
+		PieceType.FLAG, PieceType.MARSHAL,
+		PieceType.COLONEL, PieceType.CAPTAIN, 
+		PieceType.LIEUTENANT, PieceType.SERGEANT, 
+	};
+	
+	private static final PieceType[] DELTA_PIECES = 
+	{
+		PieceType.COLONEL, PieceType.MAJOR, PieceType.MAJOR, 
+		PieceType.CAPTAIN, PieceType.CAPTAIN, PieceType.CAPTAIN, 
+		PieceType.BOMB, PieceType.BOMB, PieceType.BOMB, PieceType.BOMB, 
+		PieceType.SERGEANT, PieceType.SERGEANT, PieceType.SERGEANT, 
+		PieceType.MINER, PieceType.MINER, PieceType.MINER, PieceType.MINER, 
+		PieceType.LIEUTENANT, PieceType.LIEUTENANT, PieceType.LIEUTENANT, 
+		PieceType.SCOUT, PieceType.SCOUT, PieceType.SCOUT, PieceType.SCOUT, 
+		PieceType.SERGEANT, PieceType.SCOUT, PieceType.SCOUT, PieceType.SCOUT,
+		PieceType.BOMB, PieceType.FLAG, PieceType.MINER, PieceType.SPY,
+		PieceType.LIEUTENANT, PieceType.CAPTAIN, PieceType.SCOUT, PieceType.MAJOR,
+		PieceType.COLONEL, PieceType.GENERAL, PieceType.MARSHAL, PieceType.BOMB
+	};
+	
+	private static final PieceType[] EPSILON_PIECES = 
+	{
+		PieceType.COLONEL, PieceType.MAJOR, PieceType.MAJOR, 
+		PieceType.CAPTAIN, PieceType.CAPTAIN, PieceType.CAPTAIN, 
+		PieceType.BOMB, PieceType.BOMB, PieceType.BOMB, PieceType.BOMB, 
+		PieceType.SERGEANT, PieceType.SERGEANT, PieceType.SERGEANT, 
+		PieceType.MINER, PieceType.MINER, PieceType.MINER, PieceType.MINER, 
+		PieceType.FIRST_LIEUTENANT, PieceType.LIEUTENANT, PieceType.SCOUT, 
+		PieceType.FLAG, PieceType.SCOUT, PieceType.SCOUT, PieceType.SCOUT, 
+		PieceType.SERGEANT, PieceType.SCOUT, PieceType.SCOUT, PieceType.SCOUT,
+		PieceType.BOMB, PieceType.FLAG, PieceType.MINER, PieceType.SPY,
+		PieceType.CAPTAIN, PieceType.MAJOR, PieceType.LIEUTENANT,
+		PieceType.FIRST_LIEUTENANT, PieceType.COLONEL, PieceType.GENERAL,
+		PieceType.MARSHAL, PieceType.BOMB
+	};
+	
+	private Setups() {
+		// only static helpers
+	}
+	
+	/**
+	 * @param version GAMMA, DELTA or EPSILON
+	 * @param color the player
+	 * @return the starting configuration of the player in that version
+	 */
+	public static Collection<PieceLocationDescriptor> setup(GameVersion version, PlayerColor color) {
+		switch (version) {
+			case GAMMA:
+				return setup(GAMMA_PIECES, 6, color);
+			case DELTA:
+				return setup(DELTA_PIECES, 10, color);
+			case EPSILON:
+				return setup(EPSILON_PIECES, 10, color);
+			default:
+				throw new StrategyRuntimeException("No benchmark setup for " + version);
+		}
+	}
+	
+	/**
+	 * @param version GAMMA, DELTA or EPSILON
+	 * @return the setup validator of that version
+	 */
+	public static SetupValidator validator(GameVersion version) {
+		switch (version) {
+			case GAMMA:
+				return GammaStrategyGameController.SETUP_VALIDATOR;
+			case DELTA:
+				return DeltaStrategyGameController.SETUP_VALIDATOR;
+			case EPSILON:
+				return EpsilonStrategyGameController.SETUP_VALIDATOR;
+			default:
+				throw new StrategyRuntimeException("No setup validator for " + version);
+		}
+	}
+	
+	/**
+	 * Creates a game through the factory
+	 * @param version GAMMA, DELTA or EPSILON
+	 * @param red the red configuration
+	 * @param blue the blue configuration
+	 * @return the new game, not started
+	 */
+	public static StrategyGameControllerImpl makeGame(GameVersion version, 
+			Collection<PieceLocationDescriptor> red, Collection<PieceLocationDescriptor> blue) {
+		final StrategyGameFactory factory = StrategyGameFactory.getInstance();
+		try {
+			switch (version) {
+				case GAMMA:
+					return (StrategyGameControllerImpl) factory.makeGammaStrategyGame(red, blue);
+				case DELTA:
+					return (StrategyGameControllerImpl) factory.makeDeltaStrategyGame(red, blue);
+				case EPSILON:
+					return (StrategyGameControllerImpl) factory.makeEpsilonStrategyGame(red, blue, null);
+				default:
+					throw new StrategyRuntimeException("No benchmark game for " + version);
+			}
+		}
+		catch (StrategyException e) {
+			throw new StrategyRuntimeException("Invalid benchmark setup", e);
+		}
+	}
+	
+	/**
+	 * @param pieces the pieces in order of their red location
+	 * @param size the width and height of the board
+	 * @param color the player
+	 * @return the configuration
+	 */
+	private static Collection<PieceLocationDescriptor> setup(PieceType[] pieces, int size, PlayerColor color) {
+		final Collection<PieceLocationDescriptor> setup = new ArrayList<PieceLocationDescriptor>();
+		final int lastSpace = size * size - 1;
+		
+		for (int i = 0; i < pieces.length; i++) {
+			final int space = color == PlayerColor.RED ? i : lastSpace - i;
+			setup.add(new PieceLocationDescriptor(new Piece(pieces[i], color), 
+					new Location2D(space % size, space / size)));
+		}
+		return setup;
+	}
+}
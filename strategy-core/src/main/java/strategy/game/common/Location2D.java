@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * This files was developed for CS4233: Object-Oriented Analysis & Design.
+ * The course was taken at Worcester Polytechnic Institute.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+
+package strategy.game.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import strategy.common.StrategyRuntimeException;
+
+/**
+ * Description
+ * 
+ * Locations are immutable, so the ones with both coordinates in the range 
+ * [0, GRID_SIZE) are shared: Location2D.of(x, y) always returns the same 
+ * instance.
+ * 
+ * @author gpollice
+ * @version Sep 7, 2013
+ */
+public class Location2D implements Location
+{
+	/** width and height of the grid of shared locations, larger than any board */
+	public static final int GRID_SIZE = 16;
+	
+	private static final Location2D[] CANONICAL = new Location2D[GRID_SIZE * GRID_SIZE];
+	private static final ConcurrentMap<Long, Location2D[]> BOARD_GRIDS = 
+			new ConcurrentHashMap<Long, Location2D[]>();
+	
+	static {
+		for (int y = 0; y < GRID_SIZE; y++) {
+			for (int x = 0; x < GRID_SIZE; x++) {
+				CANONICAL[y * GRID_SIZE + x] = new Location2D(x, y);
+			}
+		}
+	}
+	
+	private final int xCoordinate;
+	private final int yCoordinate;
+	
+	/**
+	 * Public constructor for a 2D Location. 
+	 * Simply sets the given x and y coordinates
+	 * @param xCoordinate represents the x coordinate of the location
+	 * @param yCoordinate represents the y coordinate of the location
+	 */
+	public Location2D(int xCoordinate, int yCoordinate) {
+		this.xCoordinate = xCoordinate;
+		this.yCoordinate = yCoordinate;
+	}
+	
+	/**
+	 * Returns the shared location for the given coordinates, only creating a 
+	 * new one if they are outside the shared grid
+	 * @param x the x coordinate
+	 * @param y the y coordinate
+	 * @return the location
+	 */
+	public static Location2D of(int x, int y) {
+		return isInGrid(x, y) ? CANONICAL[y * GRID_SIZE + x] : new Location2D(x, y);
+	}
+	
+	/**
+	 * Returns the shared locations of a board in cell index order, so the
+	 * location of cell y * width + x is at that position in the array. The 
+	 * array is shared by every caller, and must not be changed.
+	 * @param width the number of columns of the board
+	 * @param height the number of rows of the board
+	 * @return the locations of every cell of the board
+	 */
+	public static Location2D[] grid(int width, int height) {
+		final Long key = ((long) width << 32) | (height & 0xFFFFFFFFL);
+		Location2D[] grid = BOARD_GRIDS.get(key);
+		
+		if (grid == null) {
+			grid = new Location2D[width * height];
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					grid[y * width + x] = of(x, y);
+				}
+			}
+			final Location2D[] existing = BOARD_GRIDS.putIfAbsent(key, grid);
+			if (existing != null) {
+				grid = existing;
+			}
+		}
+		return grid;
+	}
+	
+	private static boolean isInGrid(int x, int y) {
+		return x >= 0 && x < GRID_SIZE && y >= 0 && y < GRID_SIZE;
+	}
+	
+	/**
+	 * @return the x coordinate
+	 */
+	public int x() {
+		return xCoordinate;
+	}
+	
+	/**
+	 * @return the y coordinate
+	 */
+	public int y() {
+		return yCoordinate;
+	}
+	
+	@Override
+	public int getCoordinate(Coordinate coordinate)
+	{
+		return coordinate == Coordinate.X_COORDINATE ? xCoordinate
+				: yCoordinate;
+	}
+
+	@Override
+	public int distanceTo(Location otherLocation)
+	{
+		final int otherX = otherLocation.getCoordinate(Coordinate.X_COORDINATE);
+		final int otherY = otherLocation.getCoordinate(Coordinate.Y_COORDINATE);
+		
+		if (xCoordinate != otherX && yCoordinate != otherY) {
+			throw new StrategyRuntimeException("Coordinates are not on same row or column");
+		}
+		
+		return xCoordinate == otherX ? Math.abs(yCoordinate - otherY) : Math.abs(xCoordinate - otherX);
+	}
+	
+	@Override
+	public boolean equals(Object other) {
+		if (other == this) return true;
+		if (!(other instanceof Location2D)) return false;
+		final Location2D that = (Location2D)other;
+		return (xCoordinate == that.xCoordinate &&
+				yCoordinate == that.yCoordinate);
+	}
+	
+	@Override
+	public int hashCode()
+	{
+		// distinct for every location with coordinates in [0, 65536)
+		return (xCoordinate << 16) ^ yCoordinate;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "(" + xCoordinate + ',' + yCoordinate + ')';
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * This files was developed for CS4233: Object-Oriented Analysis & Design.
+ * The course was taken at Worcester Polytechnic Institute.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+
+package strategy.game.common;
+
+import strategy.common.PlayerColor;
+
+/**
+ * This class is simply a data structure that describes a particular piece in the
+ * game.
+ * 
+ * Every (type, owner) pair, and the ownerless choke point, has one shared
+ * instance returned by Piece.of. Each piece also has a small code that is the 
+ * same in every run of the program: 1 + owner * 14 + type for a player's piece 
+ * and CHOKE_CODE for the choke point. Code 0 is left for an empty space.
+ * 
+ * @author gpollice
+ * @version Sep 7, 2013
+ */
+public class Piece
+{
+	/** code of an empty space, which no piece has */
+	public static final byte EMPTY_CODE = 0;
+	/** code of the choke point, which has no owner */
+	public static final byte CHOKE_CODE = 29;
+	/** number of codes, including EMPTY_CODE */
+	public static final int NUM_CODES = CHOKE_CODE + 1;
+	
+	// shared piece for every code, so decoding a code is a single array read
+	private static final Piece[] POOL = new Piece[NUM_CODES];
+	
+	static {
+		for (PlayerColor color : PlayerColor.values()) {
+			for (PieceType type : PieceType.values()) {
+				final Piece piece = new Piece(type, color);
+				POOL[piece.code] = piece;
+			}
+		}
+		POOL[CHOKE_CODE] = new Piece(PieceType.CHOKE_POINT, null);
+	}
+	
+	private final PieceType type;
+	private final PlayerColor owner;
+	private final byte code;
+	
+	/**
+	 * Default constructor
+	 * @param type the piece type (rank)
+	 * @param owner the color of the player who owns the piece, null for the choke point
+	 * @throws IllegalArgumentException if the type is null, or the owner is null
+	 * 			for any type but the choke point
+	 */
+	public Piece(PieceType type, PlayerColor owner)
+	{
+		this.type = type;
+		this.owner = owner;
+		code = codeOf(type, owner);
+	}
+	
+	/**
+	 * Returns the shared piece of the given type and owner
+	 * @param type the piece type (rank)
+	 * @param owner the color of the player who owns the piece, null for the choke point
+	 * @return the piece
+	 * @throws IllegalArgumentException if the type is null, or the owner is null
+	 * 			for any type but the choke point
+	 */
+	public static Piece of(PieceType type, PlayerColor owner)
+	{
+		return POOL[codeOf(type, owner)];
+	}
+	
+	/**
+	 * @param code a piece code
+	 * @return the shared piece with that code, null for EMPTY_CODE
+	 */
+	public static Piece ofCode(byte code)
+	{
+		return POOL[code];
+	}
+	
+	private static byte codeOf(PieceType type, PlayerColor owner)
+	{
+		if (type == null) {
+			throw new IllegalArgumentException("A piece needs a type");
+		}
+		if (owner == null) {
+			if (type != PieceType.CHOKE_POINT) {
+				throw new IllegalArgumentException("Only the choke point has no owner");
+			}
+			return CHOKE_CODE;
+		}
+		return (byte) (1 + owner.ordinal() * PieceType.values().length + type.ordinal());
+	}
+	
+	/**
+	 * @return the code of this piece
+	 */
+	public byte getCode()
+	{
+		return code;
+	}
+
+	/**
+	 * @return the type
+	 */
+	public PieceType getType()
+	{
+		return type;
+	}
+
+	/**
+	 * @return the owner
+	 */
+	public PlayerColor getOwner()
+	{
+		return owner;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return owner.toString() + ' ' + type;
+	}
+	
+	@Override
+	public boolean equals(Object other) {
+		if (other == this) return true;
+		if (!(other instanceof Piece)) return false;
+		return code == ((Piece)other).code;
+	}
+	
+	@Override
+	public int hashCode()
+	{
+		return code;
+	}
+}
@@ -28,12 +28,14 @@ public class PieceLocationDescriptor
 	/**
 	 * Construct a PieceLocationDescriptor where we do not care about the
 	 * player who owns the piece.
+	 * The shared instance of the piece is kept, so descriptors never hold on
+	 * to private copies of a piece.
 	 * @param piece the piece at the location
 	 * @param location the location of the piece
 	 */
 	public PieceLocationDescriptor(Piece piece, Location location)
 	{
-		this.piece = piece;
+		this.piece = piece == null ? null : Piece.ofCode(piece.getCode());
 		this.location = location;
 	}
 
@@ -64,6 +66,6 @@ public class PieceLocationDescriptor
 	@Override
 	public int hashCode()
 	{
-		return piece.hashCode() * location.hashCode();
+		return 31 * location.hashCode() + piece.hashCode();
 	}
 }
@@ -0,0 +1,378 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyRuntimeException;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceType;
+import strategy.game.version.BoardListener;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveOutcome;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Iterative deepening alpha-beta (negamax) search over the real rules of a
+ * game. The search plays moves on the given game with makeMove() and takes them
+ * back with unmakeMove(), so every version's rules apply unchanged, and leaves
+ * the game as it found it. Both players' pieces are assumed to be known.
+ * 
+ * Each iteration searches one ply deeper than the last, using the
+ * transposition table to order moves and to skip positions already searched
+ * deep enough. The search stops at the depth, node or time limit, whichever
+ * comes first, and reports the result of the deepest completed iteration.
+ * 
+ * A search object keeps per-ply buffers and must only be used by one thread
+ * at a time. The transposition table may be shared.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class AlphaBetaSearch {
+	
+	/** deepest ply the search can reach */
+	public static final int MAX_PLY = 64;
+	/** score of a won position, less the number of plies it takes to win */
+	public static final int WIN_SCORE = 1000000;
+	
+	private static final int INFINITY = WIN_SCORE + 1;
+	private static final int WIN_THRESHOLD = WIN_SCORE - MAX_PLY;
+	// the clock is read once every this many nodes plus one
+	private static final int TIME_CHECK_MASK = 1023;
+	private static final int TT_MOVE_ORDER = 1 << 20;
+	private static final int CAPTURE_ORDER = 1 << 10;
+	private static final int NUM_TYPES = PieceType.values().length;
+	
+	private final Evaluator evaluator;
+	private final TranspositionTable table;
+	private final MoveBuffer[] moves = new MoveBuffer[MAX_PLY];
+	private final int[][] moveOrder = new int[MAX_PLY][];
+	private final int[][] pv = new int[MAX_PLY][MAX_PLY];
+	private final int[] pvLength = new int[MAX_PLY];
+	
+	private int maxDepth = MAX_PLY - 1;
+	private long nodeLimit = Long.MAX_VALUE;
+	private long timeLimitNanos = 0;
+	
+	private StrategyGameControllerImpl game;
+	private long nodes;
+	private long deadline;
+	private volatile boolean stopped;
+	private AtomicBoolean stopSignal;
+	
+	/**
+	 * Constructor for AlphaBetaSearch
+	 * @param evaluator scores the positions at the leaves of the search
+	 * @param table the transposition table, which may be shared with other searches
+	 */
+	public AlphaBetaSearch(Evaluator evaluator, TranspositionTable table) {
+		this.evaluator = evaluator;
+		this.table = table;
+		for (int ply = 0; ply < MAX_PLY; ply++) {
+			moves[ply] = new MoveBuffer();
+			moveOrder[ply] = new int[0];
+		}
+	}
+	
+	/**
+	 * @param maxDepth the deepest iteration to search, from 1 to MAX_PLY - 1
+	 */
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = Math.max(1, Math.min(maxDepth, MAX_PLY - 1));
+	}
+	
+	/**
+	 * @param nodeLimit the number of moves the search may make before it stops
+	 */
+	public void setNodeLimit(long nodeLimit) {
+		this.nodeLimit = nodeLimit;
+	}
+	
+	/**
+	 * @param millis how long the search may run before it stops, 0 for no limit
+	 */
+	public void setTimeLimit(long millis) {
+		timeLimitNanos = millis * 1000000L;
+	}
+	
+	/**
+	 * Stops a running search from another thread. The search returns the result
+	 * of its deepest completed iteration.
+	 */
+	public void stop() {
+		stopped = true;
+	}
+	
+	/**
+	 * @return the number of moves made by the running or last search
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+	
+	/**
+	 * Searches the current position of a game for the player to move
+	 * @param game the game to search, left in the position it is given in
+	 * @return the result of the search
+	 */
+	public SearchResult search(StrategyGameControllerImpl game) {
+		table.newSearch();
+		return search(game, 1, null);
+	}
+	
+	/**
+	 * Searches for ParallelSearch, which starts the table's new search itself
+	 * @param game the game to search, left in the position it is given in
+	 * @param firstDepth the depth of the first iteration
+	 * @param stopSignal stops the search once set, null if there is none. Unlike
+	 * 			stop() it also stops a search that has not started yet.
+	 * @return the result of the search
+	 */
+	SearchResult search(StrategyGameControllerImpl game, int firstDepth, AtomicBoolean stopSignal) {
+		final PlayerColor toMove = game.getPlayerToMove();
+		if (toMove == null) {
+			throw new StrategyRuntimeException("The game is not in progress");
+		}
+		
+		final long start = System.nanoTime();
+		this.game = game;
+		this.stopSignal = stopSignal;
+		nodes = 0;
+		stopped = false;
+		moves[0].clear();
+		deadline = timeLimitNanos == 0 ? Long.MAX_VALUE : start + timeLimitNanos;
+		
+		int bestMove = TranspositionTable.NO_MOVE;
+		int bestScore = 0;
+		int completedDepth = 0;
+		int[] bestPv = new int[0];
+		
+		// an incremental evaluator follows the moves made by the search
+		final BoardListener previous = evaluator.isIncremental() ? game.setBoardListener(evaluator) : null;
+		try {
+			for (int depth = Math.min(firstDepth, maxDepth); depth <= maxDepth; depth++) {
+				final int score = negamax(depth, 0, -INFINITY, INFINITY, toMove);
+				
+				// a partial iteration only counts if nothing better is known
+				if (stopped && completedDepth > 0) {
+					break;
+				}
+				if (pvLength[0] > 0) {
+					bestMove = pv[0][0];
+					bestPv = Arrays.copyOf(pv[0], pvLength[0]);
+				}
+				bestScore = score;
+				if (stopped) {
+					break;
+				}
+				completedDepth = depth;
+				
+				// nothing to gain from searching a decided game deeper
+				if (pvLength[0] == 0 || Math.abs(score) >= WIN_THRESHOLD) {
+					break;
+				}
+			}
+		}
+		finally {
+			if (evaluator.isIncremental()) {
+				game.setBoardListener(previous);
+			}
+		}
+		
+		// stopped before the first move was searched
+		if (bestMove == TranspositionTable.NO_MOVE && moves[0].size() > 0) {
+			bestMove = moves[0].get(0);
+			bestPv = new int[] { bestMove };
+		}
+		
+		this.game = null;
+		this.stopSignal = null;
+		return new SearchResult(bestMove, bestScore, completedDepth, nodes, bestPv, System.nanoTime() - start);
+	}
+	
+	/**
+	 * @param depth the number of plies left to search
+	 * @param ply the number of moves made since the root
+	 * @param alpha the score the player to move is already sure of
+	 * @param beta the score the opponent is already sure of
+	 * @param color the player to move
+	 * @return the score of the position for the player to move
+	 */
+	private int negamax(int depth, int ply, int alpha, int beta, PlayerColor color) {
+		pvLength[ply] = 0;
+		if (stopSignal != null && stopSignal.get()) {
+			stopped = true;
+		}
+		if (stopped) {
+			return 0;
+		}
+		if (depth == 0 || ply == MAX_PLY - 1) {
+			return evaluator.evaluate(game, color);
+		}
+		
+		final long key = game.positionHash();
+		final long entry = table.probe(key);
+		int ttMove = TranspositionTable.NO_MOVE;
+		if (entry != 0) {
+			ttMove = TranspositionTable.move(entry);
+			if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+				final int score = fromTable(TranspositionTable.score(entry), ply);
+				final int bound = TranspositionTable.bound(entry);
+				if (bound == TranspositionTable.BOUND_EXACT
+						|| (bound == TranspositionTable.BOUND_LOWER && score >= beta)
+						|| (bound == TranspositionTable.BOUND_UPPER && score <= alpha)) {
+					return score;
+				}
+			}
+		}
+		
+		final MoveBuffer buffer = moves[ply];
+		final int numMoves = game.generateLegalMoves(color, buffer);
+		if (numMoves == 0) {
+			// a player who cannot move has to resign
+			return -(WIN_SCORE - ply);
+		}
+		scoreMoves(buffer, ply, ttMove);
+		
+		final PlayerColor opponent = color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+		final int alphaStart = alpha;
+		int best = -INFINITY;
+		int bestMove = TranspositionTable.NO_MOVE;
+		
+		for (int i = 0; i < numMoves; i++) {
+			final int move = nextMove(buffer, ply, i);
+			
+			game.makeMove(move);
+			nodes++;
+			if (nodes >= nodeLimit || ((nodes & TIME_CHECK_MASK) == 0 && System.nanoTime() > deadline)) {
+				stopped = true;
+			}
+			
+			final int score;
+			final MoveResultStatus status = MoveOutcome.statusOf(game.getLastOutcome());
+			if (status == MoveResultStatus.OK) {
+				score = -negamax(depth - 1, ply + 1, -beta, -alpha, opponent);
+			}
+			else {
+				pvLength[ply + 1] = 0;
+				score = terminalScore(status, color, ply + 1);
+			}
+			game.unmakeMove();
+			
+			if (stopped) {
+				return 0;
+			}
+			
+			if (score > best) {
+				best = score;
+				bestMove = move;
+				if (score > alpha) {
+					alpha = score;
+					pv[ply][0] = move;
+					System.arraycopy(pv[ply + 1], 0, pv[ply], 1, pvLength[ply + 1]);
+					pvLength[ply] = pvLength[ply + 1] + 1;
+					if (alpha >= beta) {
+						break;
+					}
+				}
+			}
+		}
+		
+		final int bound = best <= alphaStart ? TranspositionTable.BOUND_UPPER
+				: best >= beta ? TranspositionTable.BOUND_LOWER : TranspositionTable.BOUND_EXACT;
+		table.store(key, toTable(best, ply), depth, bound, bestMove);
+		return best;
+	}
+	
+	/**
+	 * Gives every move an ordering score: the transposition table move first,
+	 * then captures of the strongest pieces by the weakest, then the rest
+	 */
+	private void scoreMoves(MoveBuffer buffer, int ply, int ttMove) {
+		final int numMoves = buffer.size();
+		if (moveOrder[ply].length < numMoves) {
+			moveOrder[ply] = new int[Math.max(numMoves, moveOrder[ply].length * 2)];
+		}
+		final int[] order = moveOrder[ply];
+		
+		for (int i = 0; i < numMoves; i++) {
+			final int move = buffer.get(i);
+			final Piece victim = game.getPieceAt(MoveBuffer.toOf(move));
+			if (move == ttMove) {
+				order[i] = TT_MOVE_ORDER;
+			}
+			else if (victim != null) {
+				final Piece attacker = game.getPieceAt(MoveBuffer.fromOf(move));
+				order[i] = CAPTURE_ORDER + (NUM_TYPES - victim.getType().ordinal()) * NUM_TYPES
+						+ attacker.getType().ordinal();
+			}
+			else {
+				order[i] = 0;
+			}
+		}
+	}
+	
+	/**
+	 * Moves the best ordered move not yet searched to position i
+	 * @return the move now at position i
+	 */
+	private int nextMove(MoveBuffer buffer, int ply, int i) {
+		final int[] order = moveOrder[ply];
+		int best = i;
+		for (int j = i + 1; j < buffer.size(); j++) {
+			if (order[j] > order[best]) {
+				best = j;
+			}
+		}
+		if (best != i) {
+			buffer.swap(i, best);
+			final int swap = order[i];
+			order[i] = order[best];
+			order[best] = swap;
+		}
+		return buffer.get(i);
+	}
+	
+	/**
+	 * @param status the status of a move that ended the game
+	 * @param color the player who made the move
+	 * @param ply the number of moves made since the root, including that move
+	 * @return the score of the finished game for the player who made the move
+	 */
+	private static int terminalScore(MoveResultStatus status, PlayerColor color, int ply) {
+		if (status == MoveResultStatus.DRAW) {
+			return 0;
+		}
+		final PlayerColor winner = status == MoveResultStatus.RED_WINS ? PlayerColor.RED : PlayerColor.BLUE;
+		return winner == color ? WIN_SCORE - ply : -(WIN_SCORE - ply);
+	}
+	
+	/**
+	 * Win scores depend on the distance from the root, the table keeps them as
+	 * distances from the stored position instead
+	 */
+	private static int toTable(int score, int ply) {
+		if (score >= WIN_THRESHOLD) {
+			return score + ply;
+		}
+		if (score <= -WIN_THRESHOLD) {
+			return score - ply;
+		}
+		return score;
+	}
+	
+	private static int fromTable(int score, int ply) {
+		if (score >= WIN_THRESHOLD) {
+			return score - ply;
+		}
+		if (score <= -WIN_THRESHOLD) {
+			return score + ply;
+		}
+		return score;
+	}
+}
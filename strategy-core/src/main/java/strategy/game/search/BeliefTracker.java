@@ -0,0 +1,320 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.Location;
+import strategy.game.common.MoveResult;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.common.StrategyGameObserver;
+import strategy.game.version.BoardSpec;
+import strategy.game.version.SetupValidator;
+import strategy.game.version.StrategyGameControllerImpl;
+import strategy.game.version.epsilon.EpsilonStrategyGameController;
+
+/**
+ * Keeps, for one player of an Epsilon game, the probability of every type for
+ * every enemy piece. The tracker is an observer: register it with the game
+ * before it starts, and it follows the game through the moves reported to it.
+ * 
+ * It only uses what the player sees: where the enemy pieces start, where they
+ * go, and who wins each battle. A piece that moves is neither a bomb nor a
+ * flag, a piece that moves more than one space to an empty space is a scout,
+ * and one that attacks from two spaces away is a first lieutenant. A battle
+ * rules out every type that would not have given its result against the
+ * player's own piece, and shows the type of an enemy piece that wins it.
+ * 
+ * The beliefs are a dense float matrix with a row per enemy piece, captured
+ * pieces included, and a column per type. Every column should add up to the
+ * number of pieces of that type the Epsilon setup table allows. After every
+ * change the tracker scales the columns once towards those counts and the rows
+ * back to 1 (one sweep of iterative proportional fitting), so an update costs
+ * O(pieces) and the beliefs settle as the game goes on.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class BeliefTracker implements StrategyGameObserver {
+	
+	private static final PieceType[] TYPES = PieceType.values();
+	// the columns, every type a player's piece can have
+	private static final int NUM_TYPES = PieceType.CHOKE_POINT.ordinal();
+	
+	// who survives a battle
+	private static final int ATTACKER_WINS = 1;
+	private static final int BOTH_LOSE = 0;
+	private static final int DEFENDER_WINS = -1;
+	
+	private final PlayerColor viewer;
+	private final BoardSpec spec;
+	private final int width;
+	private final int numPieces;
+	// [type] the expected number of enemy pieces of each type
+	private final float[] targets = new float[NUM_TYPES];
+	// [type] column sums and then column scales of a sweep
+	private final float[] scales = new float[NUM_TYPES];
+	
+	// [piece * NUM_TYPES + type] probability that the enemy piece has the type
+	private final float[] beliefs;
+	// [cell] the enemy piece on the cell, or -1
+	private final int[] pieceAt;
+	// [cell] the type of the player's own piece on the cell, or null
+	private final PieceType[] ownTypes;
+	
+	/**
+	 * Constructor for BeliefTracker
+	 * @param viewer the player whose beliefs are kept
+	 */
+	public BeliefTracker(PlayerColor viewer) {
+		final SetupValidator rules = EpsilonStrategyGameController.SETUP_VALIDATOR;
+		this.viewer = viewer;
+		spec = rules.getBoardSpec();
+		width = spec.getWidth();
+		numPieces = rules.getNumPieces();
+		beliefs = new float[numPieces * NUM_TYPES];
+		pieceAt = new int[spec.getNumSpaces()];
+		ownTypes = new PieceType[pieceAt.length];
+		
+		// the pieces a setup may leave out are taken evenly from the types that allow it
+		int numLeftOut = -numPieces, flexible = 0;
+		for (int type = 0; type < NUM_TYPES; type++) {
+			numLeftOut += rules.getMaxCount(TYPES[type]);
+			if (rules.getMinCount(TYPES[type]) < rules.getMaxCount(TYPES[type])) {
+				flexible += rules.getMaxCount(TYPES[type]);
+			}
+		}
+		for (int type = 0; type < NUM_TYPES; type++) {
+			final int max = rules.getMaxCount(TYPES[type]);
+			targets[type] = rules.getMinCount(TYPES[type]) == max ? max
+					: max - (float) numLeftOut * max / flexible;
+		}
+	}
+	
+	/**
+	 * @return the player whose beliefs are kept
+	 */
+	public PlayerColor getViewer() {
+		return viewer;
+	}
+	
+	/**
+	 * @param index a cell index
+	 * @param type a piece type
+	 * @return the probability that the piece on the cell has the type,
+	 * 			0 if the cell does not hold an enemy piece
+	 */
+	public float getProbability(int index, PieceType type) {
+		final int piece = pieceAt[index];
+		return piece < 0 || type.ordinal() >= NUM_TYPES ? 0 : beliefs[piece * NUM_TYPES + type.ordinal()];
+	}
+	
+	/**
+	 * @param location a location on the board
+	 * @param type a piece type
+	 * @return the probability that the piece at the location has the type,
+	 * 			0 if the location does not hold an enemy piece or is not on the board
+	 */
+	public float getProbability(Location location, PieceType type) {
+		final int index = spec.indexOf(location);
+		return index < 0 ? 0 : getProbability(index, type);
+	}
+	
+	/**
+	 * @param index a cell index
+	 * @return the most likely type of the enemy piece on the cell, or null if there is none
+	 */
+	public PieceType getMostLikelyType(int index) {
+		final int piece = pieceAt[index];
+		if (piece < 0) {
+			return null;
+		}
+		int best = 0;
+		for (int type = 1; type < NUM_TYPES; type++) {
+			if (beliefs[piece * NUM_TYPES + type] > beliefs[piece * NUM_TYPES + best]) {
+				best = type;
+			}
+		}
+		return TYPES[best];
+	}
+	
+	/*
+	 * @see strategy.game.common.StrategyGameObserver#gameStart(java.util.Collection, java.util.Collection)
+	 */
+	@Override
+	public void gameStart(Collection<PieceLocationDescriptor> redConfiguration,
+			Collection<PieceLocationDescriptor> blueConfiguration) {
+		Arrays.fill(pieceAt, -1);
+		Arrays.fill(ownTypes, null);
+		
+		for (PieceLocationDescriptor descriptor
+				: viewer == PlayerColor.RED ? redConfiguration : blueConfiguration) {
+			ownTypes[spec.indexOf(descriptor.getLocation())] = descriptor.getPiece().getType();
+		}
+		
+		// only where the enemy pieces are is seen, every one starts with the table's odds
+		int piece = 0;
+		for (PieceLocationDescriptor descriptor
+				: viewer == PlayerColor.RED ? blueConfiguration : redConfiguration) {
+			pieceAt[spec.indexOf(descriptor.getLocation())] = piece;
+			for (int type = 0; type < NUM_TYPES; type++) {
+				beliefs[piece * NUM_TYPES + type] = targets[type] / numPieces;
+			}
+			piece++;
+		}
+	}
+	
+	/*
+	 * @see strategy.game.common.StrategyGameObserver#moveHappened(strategy.game.common.PieceType, strategy.game.common.Location, strategy.game.common.Location, strategy.game.common.MoveResult, strategy.common.StrategyException)
+	 */
+	@Override
+	public void moveHappened(PieceType piece, Location from, Location to,
+			MoveResult result, StrategyException fault) {
+		// nothing changes on the board for a rejected move or a resignation
+		if (fault != null || result == null || from == null || to == null) {
+			return;
+		}
+		
+		final int fromCell = spec.indexOf(from);
+		final int toCell = spec.indexOf(to);
+		final boolean longMove = Math.abs(fromCell % width - toCell % width)
+				+ Math.abs(fromCell / width - toCell / width) > 1;
+		
+		if (pieceAt[toCell] < 0 && ownTypes[toCell] == null) {
+			move(fromCell, toCell, longMove);
+		}
+		else {
+			battle(fromCell, toCell, longMove, result.getBattleWinner());
+		}
+	}
+	
+	private void move(int fromCell, int toCell, boolean longMove) {
+		final int piece = pieceAt[fromCell];
+		if (piece < 0) {
+			ownTypes[toCell] = ownTypes[fromCell];
+			ownTypes[fromCell] = null;
+			return;
+		}
+		
+		pieceAt[fromCell] = -1;
+		pieceAt[toCell] = piece;
+		
+		// only scouts go further than one space
+		for (int type = 0; type < NUM_TYPES; type++) {
+			if (longMove ? TYPES[type] != PieceType.SCOUT : !StrategyGameControllerImpl.isMovable(TYPES[type])) {
+				beliefs[piece * NUM_TYPES + type] = 0;
+			}
+		}
+		rebalance();
+	}
+	
+	private void battle(int fromCell, int toCell, boolean longAttack, PieceLocationDescriptor winner) {
+		final boolean enemyAttacks = pieceAt[fromCell] >= 0;
+		final int piece = enemyAttacks ? pieceAt[fromCell] : pieceAt[toCell];
+		final PieceType own = enemyAttacks ? ownTypes[toCell] : ownTypes[fromCell];
+		final int outcome;
+		if (winner == null) {
+			outcome = BOTH_LOSE;
+		}
+		else {
+			outcome = (winner.getPiece().getOwner() == viewer) == enemyAttacks ? DEFENDER_WINS : ATTACKER_WINS;
+		}
+		
+		// rule out the types that would have ended the battle differently
+		for (int type = 0; type < NUM_TYPES; type++) {
+			final PieceType enemy = TYPES[type];
+			final boolean possible;
+			if (enemyAttacks) {
+				possible = StrategyGameControllerImpl.isMovable(enemy)
+						&& (!longAttack || enemy == PieceType.FIRST_LIEUTENANT)
+						&& battle(enemy, own, longAttack) == outcome;
+			}
+			else {
+				possible = battle(own, enemy, longAttack) == outcome;
+			}
+			if (!possible || (winner != null && winner.getPiece().getOwner() != viewer
+					&& winner.getPiece().getType() != enemy)) {
+				beliefs[piece * NUM_TYPES + type] = 0;
+			}
+		}
+		
+		pieceAt[fromCell] = -1;
+		pieceAt[toCell] = -1;
+		ownTypes[fromCell] = null;
+		ownTypes[toCell] = null;
+		if (winner != null) {
+			final int winnerCell = spec.indexOf(winner.getLocation());
+			if (winner.getPiece().getOwner() == viewer) {
+				ownTypes[winnerCell] = own;
+			}
+			else {
+				pieceAt[winnerCell] = piece;
+			}
+		}
+		rebalance();
+	}
+	
+	/**
+	 * Scales the columns towards the expected counts and the rows back to 1,
+	 * once over the whole matrix
+	 */
+	private void rebalance() {
+		Arrays.fill(scales, 0);
+		for (int piece = 0; piece < numPieces; piece++) {
+			for (int type = 0; type < NUM_TYPES; type++) {
+				scales[type] += beliefs[piece * NUM_TYPES + type];
+			}
+		}
+		for (int type = 0; type < NUM_TYPES; type++) {
+			scales[type] = scales[type] == 0 ? 0 : targets[type] / scales[type];
+		}
+		
+		for (int piece = 0; piece < numPieces; piece++) {
+			final int row = piece * NUM_TYPES;
+			float sum = 0;
+			for (int type = 0; type < NUM_TYPES; type++) {
+				beliefs[row + type] *= scales[type];
+				sum += beliefs[row + type];
+			}
+			if (sum > 0) {
+				for (int type = 0; type < NUM_TYPES; type++) {
+					beliefs[row + type] /= sum;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Epsilon's battle rules, for the types alone
+	 * @param attacker the type of the attacking piece
+	 * @param defender the type of the piece attacked
+	 * @param longAttack true for a first lieutenant attacking from two spaces away
+	 * @return which piece is left after the battle
+	 */
+	private static int battle(PieceType attacker, PieceType defender, boolean longAttack) {
+		if (defender == PieceType.FLAG) {
+			return ATTACKER_WINS;
+		}
+		if (defender == PieceType.BOMB && attacker != PieceType.MINER) {
+			return DEFENDER_WINS;
+		}
+		if (attacker == PieceType.SPY && defender == PieceType.MARSHAL) {
+			return ATTACKER_WINS;
+		}
+		if (attacker == PieceType.FIRST_LIEUTENANT && defender == PieceType.LIEUTENANT
+				|| attacker == PieceType.LIEUTENANT && defender == PieceType.FIRST_LIEUTENANT) {
+			return BOTH_LOSE;
+		}
+		
+		final int comparison = attacker.compareTo(defender);
+		if (longAttack) {
+			return comparison < 0 ? ATTACKER_WINS : DEFENDER_WINS;
+		}
+		return comparison == 0 ? BOTH_LOSE : comparison < 0 ? ATTACKER_WINS : DEFENDER_WINS;
+	}
+}
@@ -0,0 +1,121 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import java.util.Random;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Piece;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Deals out the opponent's unrevealed pieces at random, in a way that agrees
+ * with everything one player has seen. Revealed pieces keep their type, pieces
+ * that have moved are never made bombs or flags, and the pieces dealt out are
+ * exactly the opponent's pieces not yet revealed, which the player can work out
+ * from the opponent's setup and the battles so far. Every deal that fits is
+ * equally likely.
+ * 
+ * A determinizer only reads the position it was made from and can be shared by
+ * any number of threads.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class Determinizer {
+	
+	// unrevealed cells of the opponent, the ones that never moved first
+	private final int[] cells;
+	private final int numUnmoved;
+	private final Piece[] immovable;
+	private final Piece[] movable;
+	
+	/**
+	 * Constructor for Determinizer
+	 * @param game the game in the position to deal out
+	 * @param viewer the player whose knowledge the deals agree with
+	 */
+	public Determinizer(StrategyGameControllerImpl game, PlayerColor viewer) {
+		final PlayerColor hidden = viewer == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+		final int numSpaces = game.getBoardSpec().getNumSpaces();
+		
+		int numHidden = 0, unmoved = 0, numImmovable = 0;
+		for (int i = 0; i < numSpaces; i++) {
+			final Piece piece = game.getPieceAt(i);
+			if (isHidden(game, piece, hidden, i)) {
+				numHidden++;
+				if ((game.getKnowledge(i) & StrategyGameControllerImpl.KNOWN_MOVED) == 0) {
+					unmoved++;
+				}
+				if (!StrategyGameControllerImpl.isMovable(piece.getType())) {
+					numImmovable++;
+				}
+			}
+		}
+		
+		cells = new int[numHidden];
+		immovable = new Piece[numImmovable];
+		movable = new Piece[numHidden - numImmovable];
+		numUnmoved = unmoved;
+		
+		int nextUnmoved = 0, nextMoved = unmoved, nextImmovable = 0, nextMovable = 0;
+		for (int i = 0; i < numSpaces; i++) {
+			final Piece piece = game.getPieceAt(i);
+			if (isHidden(game, piece, hidden, i)) {
+				if ((game.getKnowledge(i) & StrategyGameControllerImpl.KNOWN_MOVED) == 0) {
+					cells[nextUnmoved++] = i;
+				}
+				else {
+					cells[nextMoved++] = i;
+				}
+				if (StrategyGameControllerImpl.isMovable(piece.getType())) {
+					movable[nextMovable++] = piece;
+				}
+				else {
+					immovable[nextImmovable++] = piece;
+				}
+			}
+		}
+	}
+	
+	private static boolean isHidden(StrategyGameControllerImpl game, Piece piece, PlayerColor hidden, int index) {
+		return piece != null && piece.getOwner() == hidden
+				&& (game.getKnowledge(index) & StrategyGameControllerImpl.KNOWN_REVEALED) == 0;
+	}
+	
+	/**
+	 * @return the number of opponent pieces whose type is dealt out
+	 */
+	public int getNumHidden() {
+		return cells.length;
+	}
+	
+	/**
+	 * Deals out the unrevealed pieces on a copy of the game
+	 * @param game a copy of the game in the position this was made from,
+	 * 			the moves made on it before can no longer be taken back
+	 * @param random the source of the deal
+	 */
+	public void determinize(StrategyGameControllerImpl game, Random random) {
+		final int[] order = cells.clone();
+		
+		// bombs and flags go to cells that never moved ...
+		for (int i = 0; i < immovable.length; i++) {
+			final int pick = i + random.nextInt(numUnmoved - i);
+			final int swap = order[i];
+			order[i] = order[pick];
+			order[pick] = swap;
+			game.replacePiece(order[i], immovable[i]);
+		}
+		
+		// ... and everything else is shuffled over the remaining cells
+		for (int i = immovable.length; i < order.length; i++) {
+			final int pick = i + random.nextInt(order.length - i);
+			final int swap = order[i];
+			order[i] = order[pick];
+			order[pick] = swap;
+			game.replacePiece(order[i], movable[i - immovable.length]);
+		}
+	}
+}
@@ -0,0 +1,245 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceType;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Incremental evaluator for Epsilon, scoring material, mobility and the safety
+ * of the flags. Every term is a sum over single pieces or over pairs of
+ * neighbouring cells, so a cell that changes only touches its own piece and
+ * its four neighbours:
+ * 
+ * material, the value of every piece. Epsilon needs both flags to be taken,
+ * so the first flag lost costs less than the last one.
+ * mobility, the number of empty spaces next to each movable piece.
+ * flag safety, the own bombs next to each flag less the enemy pieces next to
+ * it, counted double once a player is down to the last flag.
+ * 
+ * While attached to a game the terms are kept per player and updated by every
+ * pieceChanged(). A game the evaluator is not attached to is scored from
+ * scratch, without touching the terms of the attached game. An evaluator must
+ * only be used by one thread at a time.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class EpsilonEvaluator implements Evaluator {
+	
+	private static final PieceType[] TYPES = PieceType.values();
+	
+	// the value of the last flag and of the other one
+	private static final int LAST_FLAG_VALUE = 1000;
+	private static final int SPARE_FLAG_VALUE = 300;
+	private static final int MOBILITY_VALUE = 3;
+	private static final int GUARD_VALUE = 15;
+	private static final int THREAT_VALUE = 40;
+	
+	// the terms kept for each player, at [color * NUM_TERMS + term]
+	private static final int MATERIAL = 0;
+	private static final int FLAGS = 1;
+	private static final int MOBILITY = 2;
+	private static final int GUARDS = 3;
+	private static final int THREATS = 4;
+	private static final int NUM_TERMS = 5;
+	
+	private final int[] values = new int[TYPES.length];
+	// terms of the attached game, and of a game scored from scratch
+	private final int[] terms = new int[2 * NUM_TERMS];
+	private final int[] scratch = new int[2 * NUM_TERMS];
+	private StrategyGameControllerImpl game;
+	
+	/**
+	 * Creates an evaluator with the same piece values as MaterialEvaluator,
+	 * flags apart
+	 */
+	public EpsilonEvaluator() {
+		final MaterialEvaluator material = new MaterialEvaluator();
+		for (PieceType type : TYPES) {
+			if (type != PieceType.FLAG) {
+				values[type.ordinal()] = material.getValue(type);
+			}
+		}
+	}
+	
+	@Override
+	public boolean isIncremental() {
+		return true;
+	}
+	
+	@Override
+	public int evaluate(StrategyGameControllerImpl game, PlayerColor color) {
+		if (game == this.game && game.getBoardListener() == this) {
+			return score(terms, color);
+		}
+		recompute(game, scratch);
+		return score(scratch, color);
+	}
+	
+	/*
+	 * @see strategy.game.search.Evaluator#boardChanged(strategy.game.version.StrategyGameControllerImpl)
+	 */
+	@Override
+	public void boardChanged(StrategyGameControllerImpl game) {
+		this.game = game;
+		recompute(game, terms);
+	}
+	
+	/*
+	 * @see strategy.game.search.Evaluator#pieceChanged(int, strategy.game.common.Piece, strategy.game.common.Piece)
+	 */
+	@Override
+	public void pieceChanged(int index, Piece removed, Piece added) {
+		if (removed != added) {
+			update(game, terms, index, removed, -1);
+			update(game, terms, index, added, 1);
+		}
+	}
+	
+	/**
+	 * @param terms the terms of both players
+	 * @param color the player the score is for
+	 * @return the score of the terms for the given player
+	 */
+	private int score(int[] terms, PlayerColor color) {
+		int score = 0;
+		for (PlayerColor player : PlayerColor.values()) {
+			final int base = player.ordinal() * NUM_TERMS;
+			final int flags = terms[base + FLAGS];
+			int value = terms[base + MATERIAL] + MOBILITY_VALUE * terms[base + MOBILITY];
+			value += (flags > 0 ? LAST_FLAG_VALUE : 0) + (flags > 1 ? SPARE_FLAG_VALUE : 0);
+			value += (flags == 1 ? 2 : 1) * (GUARD_VALUE * terms[base + GUARDS] - THREAT_VALUE * terms[base + THREATS]);
+			score += player == color ? value : -value;
+		}
+		return score;
+	}
+	
+	/**
+	 * Reads every term from the board, counting every pair of neighbours once
+	 */
+	private void recompute(StrategyGameControllerImpl game, int[] terms) {
+		for (int i = 0; i < terms.length; i++) {
+			terms[i] = 0;
+		}
+		final int numSpaces = game.getBoardSpec().getNumSpaces();
+		for (int index = 0; index < numSpaces; index++) {
+			final Piece piece = game.getPieceAt(index);
+			if (piece == null || piece.getOwner() == null) {
+				continue;
+			}
+			final int base = piece.getOwner().ordinal() * NUM_TERMS;
+			final PieceType type = piece.getType();
+			terms[base + MATERIAL] += values[type.ordinal()];
+			
+			if (StrategyGameControllerImpl.isMovable(type)) {
+				terms[base + MOBILITY] += countNeighbours(game, index, null, false);
+			}
+			else if (type == PieceType.FLAG) {
+				terms[base + FLAGS]++;
+				terms[base + GUARDS] += countNeighbours(game, index, Piece.of(PieceType.BOMB, piece.getOwner()), false);
+				terms[base + THREATS] += countNeighbours(game, index, piece, true);
+			}
+		}
+	}
+	
+	/**
+	 * Adds or takes away everything a piece on a cell contributes to the terms,
+	 * given the pieces now on its neighbours
+	 * @param sign 1 to add the piece, -1 to take it away
+	 */
+	private void update(StrategyGameControllerImpl game, int[] terms, int index, Piece piece, int sign) {
+		final int width = game.getBoardSpec().getWidth();
+		final int numSpaces = game.getBoardSpec().getNumSpaces();
+		final int x = index % width;
+		
+		if (piece != null && piece.getOwner() != null) {
+			final int base = piece.getOwner().ordinal() * NUM_TERMS;
+			terms[base + MATERIAL] += sign * values[piece.getType().ordinal()];
+			if (piece.getType() == PieceType.FLAG) {
+				terms[base + FLAGS] += sign;
+			}
+		}
+		
+		if (x > 0) {
+			updatePair(terms, piece, game.getPieceAt(index - 1), sign);
+		}
+		if (x < width - 1) {
+			updatePair(terms, piece, game.getPieceAt(index + 1), sign);
+		}
+		if (index >= width) {
+			updatePair(terms, piece, game.getPieceAt(index - width), sign);
+		}
+		if (index + width < numSpaces) {
+			updatePair(terms, piece, game.getPieceAt(index + width), sign);
+		}
+	}
+	
+	/**
+	 * Adds or takes away what a pair of neighbours contributes to the terms
+	 * @param piece the piece that changed, null for an empty space
+	 * @param neighbour the piece next to it, null for an empty space
+	 */
+	private static void updatePair(int[] terms, Piece piece, Piece neighbour, int sign) {
+		if (piece == null) {
+			if (neighbour != null && StrategyGameControllerImpl.isMovable(neighbour.getType())) {
+				terms[neighbour.getOwner().ordinal() * NUM_TERMS + MOBILITY] += sign;
+			}
+			return;
+		}
+		if (neighbour == null) {
+			if (StrategyGameControllerImpl.isMovable(piece.getType())) {
+				terms[piece.getOwner().ordinal() * NUM_TERMS + MOBILITY] += sign;
+			}
+			return;
+		}
+		
+		// a flag is guarded by its own bombs and threatened by enemy pieces that can move
+		if (piece.getType() == PieceType.FLAG) {
+			flagPair(terms, piece, neighbour, sign);
+		}
+		else if (neighbour.getType() == PieceType.FLAG) {
+			flagPair(terms, neighbour, piece, sign);
+		}
+	}
+	
+	private static void flagPair(int[] terms, Piece flag, Piece neighbour, int sign) {
+		final int base = flag.getOwner().ordinal() * NUM_TERMS;
+		if (neighbour.getOwner() == flag.getOwner()) {
+			if (neighbour.getType() == PieceType.BOMB) {
+				terms[base + GUARDS] += sign;
+			}
+		}
+		else if (StrategyGameControllerImpl.isMovable(neighbour.getType())) {
+			terms[base + THREATS] += sign;
+		}
+	}
+	
+	/**
+	 * @param piece the piece to count, null for empty spaces
+	 * @param enemies true to count the movable pieces of the other player than piece's
+	 * @return the number of the cell's neighbours holding the piece, or enemies of it
+	 */
+	private static int countNeighbours(StrategyGameControllerImpl game, int index, Piece piece, boolean enemies) {
+		final int width = game.getBoardSpec().getWidth();
+		final int numSpaces = game.getBoardSpec().getNumSpaces();
+		final int x = index % width;
+		int count = 0;
+		
+		for (int neighbour : new int[] {
+				x > 0 ? index - 1 : -1, x < width - 1 ? index + 1 : -1, index - width, index + width }) {
+			if (neighbour < 0 || neighbour >= numSpaces) {
+				continue;
+			}
+			final Piece other = game.getPieceAt(neighbour);
+			if (enemies ? other != null && other.getOwner() != null && other.getOwner() != piece.getOwner()
+					&& StrategyGameControllerImpl.isMovable(other.getType()) : other == piece) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
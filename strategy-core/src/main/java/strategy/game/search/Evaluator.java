@@ -0,0 +1,55 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Piece;
+import strategy.game.version.BoardListener;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Static evaluation of a position, used by the search at the leaves of its tree.
+ * 
+ * An evaluator may also keep its terms up to date as the board changes instead
+ * of reading the whole board for every score. Such an evaluator says so with
+ * isIncremental(), and a search attaches it to the game it searches as the
+ * game's BoardListener, so every move, battle and move taken back reaches it
+ * as a few pieceChanged() calls. The hooks do nothing by default.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public interface Evaluator extends BoardListener {
+	
+	/**
+	 * Scores the current position of a game that is still in progress
+	 * @param game the game to score
+	 * @param color the player the score is for
+	 * @return the score of the position for the given player, positive if the
+	 * 			player is ahead. Scores must stay well inside +/- AlphaBetaSearch.WIN_SCORE.
+	 */
+	int evaluate(StrategyGameControllerImpl game, PlayerColor color);
+	
+	/**
+	 * @return true if the evaluator follows the board through the BoardListener
+	 * 			hooks and should be attached to the games it scores
+	 */
+	default boolean isIncremental() {
+		return false;
+	}
+	
+	/*
+	 * @see strategy.game.version.BoardListener#pieceChanged(int, strategy.game.common.Piece, strategy.game.common.Piece)
+	 */
+	@Override
+	default void pieceChanged(int index, Piece removed, Piece added) {
+	}
+	
+	/*
+	 * @see strategy.game.version.BoardListener#boardChanged(strategy.game.version.StrategyGameControllerImpl)
+	 */
+	@Override
+	default void boardChanged(StrategyGameControllerImpl game) {
+	}
+}
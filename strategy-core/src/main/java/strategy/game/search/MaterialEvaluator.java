@@ -0,0 +1,73 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import java.util.Map;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.PieceType;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Scores a position by the difference in material between the players, read
+ * from the game's piece counts without looking at the board
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class MaterialEvaluator implements Evaluator {
+	
+	private static final PieceType[] TYPES = PieceType.values();
+	
+	private final int[] values = new int[TYPES.length];
+	
+	/**
+	 * Creates an evaluator with the default value of every piece
+	 */
+	public MaterialEvaluator() {
+		values[PieceType.MARSHAL.ordinal()] = 400;
+		values[PieceType.GENERAL.ordinal()] = 300;
+		values[PieceType.COLONEL.ordinal()] = 175;
+		values[PieceType.MAJOR.ordinal()] = 140;
+		values[PieceType.CAPTAIN.ordinal()] = 100;
+		values[PieceType.FIRST_LIEUTENANT.ordinal()] = 80;
+		values[PieceType.LIEUTENANT.ordinal()] = 50;
+		values[PieceType.SERGEANT.ordinal()] = 30;
+		values[PieceType.MINER.ordinal()] = 60;
+		values[PieceType.SCOUT.ordinal()] = 25;
+		values[PieceType.SPY.ordinal()] = 100;
+		values[PieceType.BOMB.ordinal()] = 40;
+		values[PieceType.FLAG.ordinal()] = 1000;
+	}
+	
+	/**
+	 * Creates an evaluator with the given piece values
+	 * @param pieceValues the value of every piece type, types not in the map are worth nothing
+	 */
+	public MaterialEvaluator(Map<PieceType, Integer> pieceValues) {
+		for (Map.Entry<PieceType, Integer> value : pieceValues.entrySet()) {
+			values[value.getKey().ordinal()] = value.getValue();
+		}
+	}
+	
+	/**
+	 * @param type a piece type
+	 * @return the value of a piece of the given type
+	 */
+	public int getValue(PieceType type) {
+		return values[type.ordinal()];
+	}
+	
+	@Override
+	public int evaluate(StrategyGameControllerImpl game, PlayerColor color) {
+		final PlayerColor opponent = color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+		int score = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != 0) {
+				score += values[i] * (game.getPieceCount(color, TYPES[i]) - game.getPieceCount(opponent, TYPES[i]));
+			}
+		}
+		return score;
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+/**
+ * The outcome of a Monte Carlo tree search: the move to play, how often and
+ * how well it did in the playouts, and how much work it took to find it
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public final class MonteCarloResult {
+	
+	private final int bestMove;
+	private final int visits;
+	private final double winRate;
+	private final long elapsedNanos;
+	private final long[] threadPlayouts;
+	
+	/**
+	 * Constructor for MonteCarloResult
+	 * @param bestMove the move to play, packed as by MoveBuffer, or TranspositionTable.NO_MOVE
+	 * @param visits the number of playouts that started with the best move, over all threads
+	 * @param winRate the average result of those playouts for the player to move,
+	 * 			from 0 for a loss to 1 for a win
+	 * @param elapsedNanos how long the search took
+	 * @param threadPlayouts the number of playouts run by each thread
+	 */
+	public MonteCarloResult(int bestMove, int visits, double winRate, long elapsedNanos, long[] threadPlayouts) {
+		this.bestMove = bestMove;
+		this.visits = visits;
+		this.winRate = winRate;
+		this.elapsedNanos = elapsedNanos;
+		this.threadPlayouts = threadPlayouts.clone();
+	}
+	
+	/**
+	 * @return the move to play packed as by MoveBuffer, or TranspositionTable.NO_MOVE
+	 * 			if the player to move has no legal move
+	 */
+	public int getBestMove() {
+		return bestMove;
+	}
+	
+	/**
+	 * @return the number of playouts that started with the best move
+	 */
+	public int getVisits() {
+		return visits;
+	}
+	
+	/**
+	 * @return the average result of the best move's playouts for the player to move
+	 */
+	public double getWinRate() {
+		return winRate;
+	}
+	
+	/**
+	 * @return how long the search took in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+	
+	/**
+	 * @return the number of playouts run by all threads together
+	 */
+	public long getPlayouts() {
+		long total = 0;
+		for (long playouts : threadPlayouts) {
+			total += playouts;
+		}
+		return total;
+	}
+	
+	/**
+	 * @return the number of playouts run per second
+	 */
+	public double getPlayoutsPerSecond() {
+		return elapsedNanos == 0 ? 0 : getPlayouts() * 1e9 / elapsedNanos;
+	}
+	
+	/**
+	 * @return the number of threads that searched
+	 */
+	public int getNumThreads() {
+		return threadPlayouts.length;
+	}
+	
+	/**
+	 * @param thread a thread number, 0 for the caller's thread
+	 * @return the number of playouts run by the given thread
+	 */
+	public long getThreadPlayouts(int thread) {
+		return threadPlayouts[thread];
+	}
+	
+	@Override
+	public String toString() {
+		return "visits " + visits + " win rate " + winRate + " playouts " + getPlayouts()
+				+ " threads " + threadPlayouts.length;
+	}
+}
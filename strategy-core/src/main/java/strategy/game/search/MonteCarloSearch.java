@@ -0,0 +1,353 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyRuntimeException;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveOutcome;
+import strategy.game.version.PlayoutKernel;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Monte Carlo tree search for the player to move, who cannot see the types of
+ * the opponent's unrevealed pieces. Every playout starts by dealing those
+ * pieces out at random with a Determinizer, so the search only uses what the
+ * player knows, and then plays the real rules of the game on a copy of it.
+ * 
+ * The tree is shared by all deals (information set MCTS): a node stands for a
+ * sequence of moves, and a move is only chosen where the current deal allows
+ * it. Moves are chosen by UCB1, counting how often each move was available
+ * instead of how often its parent was visited. Playouts play random moves with
+ * a PlayoutKernel and are scored by the evaluator once they get too long.
+ * 
+ * With more than one thread every thread grows its own tree (root parallelism)
+ * and the visits of the first moves are added up at the end. With one thread
+ * and no time limit the search is deterministic for a given seed.
+ * 
+ * A search must only be used by one caller at a time.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class MonteCarloSearch {
+	
+	/** the default number of moves a playout makes before the evaluator scores it */
+	public static final int DEFAULT_PLAYOUT_LENGTH = 200;
+	
+	// evaluator scores become results between 0 and 1 on a logistic curve this wide
+	private static final double SCORE_SCALE = 400.0;
+	
+	private final Worker[] workers;
+	private final ExecutorService helpers;
+	
+	private long playoutLimit = 10000;
+	private long timeLimitNanos = 0;
+	private int playoutLength = DEFAULT_PLAYOUT_LENGTH;
+	private double exploration = 0.7;
+	private long seed = 0;
+	
+	/**
+	 * Constructor for MonteCarloSearch
+	 * @param evaluators creates the evaluator of each thread
+	 * @param numThreads the number of threads to search with, including the caller's
+	 */
+	public MonteCarloSearch(Supplier<? extends Evaluator> evaluators, int numThreads) {
+		if (numThreads < 1) {
+			throw new StrategyRuntimeException("A Search Needs at Least One Thread");
+		}
+		workers = new Worker[numThreads];
+		for (int i = 0; i < numThreads; i++) {
+			workers[i] = new Worker(evaluators.get());
+		}
+		helpers = numThreads == 1 ? null : ParallelSearch.newHelperPool(numThreads - 1);
+	}
+	
+	/**
+	 * @return the number of threads searching, including the caller's
+	 */
+	public int getNumThreads() {
+		return workers.length;
+	}
+	
+	/**
+	 * @param playoutLimit the number of playouts each thread runs
+	 */
+	public void setPlayoutLimit(long playoutLimit) {
+		this.playoutLimit = playoutLimit;
+	}
+	
+	/**
+	 * @param millis how long the search may run before it stops, 0 for no limit
+	 */
+	public void setTimeLimit(long millis) {
+		timeLimitNanos = millis * 1000000L;
+	}
+	
+	/**
+	 * @param playoutLength the number of random moves a playout makes before
+	 * 			the evaluator scores it
+	 */
+	public void setPlayoutLength(int playoutLength) {
+		this.playoutLength = playoutLength;
+	}
+	
+	/**
+	 * @param exploration how much UCB1 favors moves tried less often
+	 */
+	public void setExploration(double exploration) {
+		this.exploration = exploration;
+	}
+	
+	/**
+	 * @param seed the seed of the deals and playouts of the next searches
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+	
+	/**
+	 * Stops the helper threads for good. The search cannot be used afterwards.
+	 */
+	public void shutdown() {
+		if (helpers != null) {
+			helpers.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Searches the current position of a game for the player to move
+	 * @param game the game to search, which is not changed
+	 * @return the move played most often first, over all threads
+	 */
+	public MonteCarloResult search(StrategyGameControllerImpl game) {
+		final PlayerColor toMove = game.getPlayerToMove();
+		if (toMove == null) {
+			throw new StrategyRuntimeException("The game is not in progress");
+		}
+		
+		final long start = System.nanoTime();
+		final long deadline = timeLimitNanos == 0 ? Long.MAX_VALUE : start + timeLimitNanos;
+		final Determinizer determinizer = new Determinizer(game, toMove);
+		final Future<?>[] running = new Future<?>[workers.length - 1];
+		
+		try {
+			for (int i = 1; i < workers.length; i++) {
+				final Worker worker = workers[i];
+				final StrategyGameControllerImpl copy = game.copy();
+				final long threadSeed = seed + i * 0x9E3779B97F4A7C15L;
+				running[i - 1] = helpers.submit(() -> worker.run(copy, determinizer, threadSeed, deadline));
+			}
+			workers[0].run(game.copy(), determinizer, seed, deadline);
+		}
+		finally {
+			ParallelSearch.awaitHelpers(running);
+		}
+		
+		// add up the first moves of every tree, in the order the caller's thread found them
+		final Map<Integer, double[]> firstMoves = new LinkedHashMap<Integer, double[]>();
+		final long[] threadPlayouts = new long[workers.length];
+		for (int i = 0; i < workers.length; i++) {
+			threadPlayouts[i] = workers[i].playouts;
+			for (Node child : workers[i].root.children) {
+				double[] stats = firstMoves.get(child.move);
+				if (stats == null) {
+					stats = new double[2];
+					firstMoves.put(child.move, stats);
+				}
+				stats[0] += child.visits;
+				stats[1] += child.wins;
+			}
+		}
+		
+		int bestMove = TranspositionTable.NO_MOVE;
+		double bestVisits = 0, bestWins = 0;
+		for (Map.Entry<Integer, double[]> move : firstMoves.entrySet()) {
+			if (move.getValue()[0] > bestVisits) {
+				bestMove = move.getKey();
+				bestVisits = move.getValue()[0];
+				bestWins = move.getValue()[1];
+			}
+		}
+		return new MonteCarloResult(bestMove, (int) bestVisits, bestVisits == 0 ? 0 : bestWins / bestVisits,
+				System.nanoTime() - start, threadPlayouts);
+	}
+	
+	/**
+	 * A sequence of moves from the root, with the results of the playouts that
+	 * went through it
+	 */
+	private static final class Node {
+		
+		final int move;
+		// the player who made the move
+		final PlayerColor mover;
+		final ArrayList<Node> children = new ArrayList<Node>();
+		int visits;
+		// how often the move was legal when its parent was visited
+		int avails;
+		// sum of the playout results for the mover
+		double wins;
+		
+		Node(int move, PlayerColor mover) {
+			this.move = move;
+			this.mover = mover;
+		}
+	}
+	
+	/**
+	 * Grows one tree on one thread
+	 */
+	private final class Worker {
+		
+		private final Evaluator evaluator;
+		private final MoveBuffer moves = new MoveBuffer();
+		private final ArrayList<Node> path = new ArrayList<Node>();
+		// [from * numSpaces + to] the round in which the move was last found legal
+		private int[] stamps = new int[0];
+		private int round;
+		private int numSpaces;
+		
+		Node root;
+		long playouts;
+		
+		Worker(Evaluator evaluator) {
+			this.evaluator = evaluator;
+		}
+		
+		/**
+		 * Runs playouts until the playout or time limit is reached
+		 * @param work a copy of the game to play the playouts on
+		 * @param determinizer deals out the opponent's unrevealed pieces
+		 * @param seed the seed of this thread's deals and playouts
+		 * @param deadline System.nanoTime() at which to stop
+		 */
+		void run(StrategyGameControllerImpl work, Determinizer determinizer, long seed, long deadline) {
+			final StrategyGameControllerImpl start = work.copy();
+			final PlayoutKernel kernel = new PlayoutKernel(seed);
+			numSpaces = work.getBoardSpec().getNumSpaces();
+			stamps = new int[numSpaces * numSpaces];
+			round = 0;
+			root = new Node(TranspositionTable.NO_MOVE, null);
+			playouts = 0;
+			
+			while (playouts < playoutLimit && System.nanoTime() < deadline) {
+				work.copyFrom(start);
+				determinizer.determinize(work, kernel.getRandom());
+				playout(work, kernel);
+				playouts++;
+			}
+		}
+		
+		/**
+		 * Walks down the tree, adds one node, plays on at random and records the result
+		 */
+		private void playout(StrategyGameControllerImpl work, PlayoutKernel kernel) {
+			path.clear();
+			Node node = root;
+			PlayerColor color = work.getPlayerToMove();
+			MoveResultStatus status = MoveResultStatus.OK;
+			boolean expanded = false;
+			
+			// follow the tree until a new node is added
+			while (status == MoveResultStatus.OK && !expanded) {
+				if (work.generateLegalMoves(color, moves) == 0) {
+					// a player who cannot move has to resign
+					status = color == PlayerColor.RED ? MoveResultStatus.BLUE_WINS : MoveResultStatus.RED_WINS;
+					break;
+				}
+				node = select(node, color, kernel.getRandom());
+				expanded = node.visits == 0;
+				path.add(node);
+				
+				work.makeMove(node.move);
+				status = MoveOutcome.statusOf(work.getLastOutcome());
+				color = color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+			}
+			
+			// then play random moves
+			if (status == MoveResultStatus.OK) {
+				status = kernel.playout(work, playoutLength);
+			}
+			
+			final double redResult;
+			if (status == MoveResultStatus.RED_WINS) {
+				redResult = 1;
+			}
+			else if (status == MoveResultStatus.BLUE_WINS) {
+				redResult = 0;
+			}
+			else if (status == MoveResultStatus.DRAW) {
+				redResult = 0.5;
+			}
+			else {
+				redResult = 1 / (1 + Math.exp(-evaluator.evaluate(work, PlayerColor.RED) / SCORE_SCALE));
+			}
+			
+			root.visits++;
+			for (Node visited : path) {
+				visited.visits++;
+				visited.wins += visited.mover == PlayerColor.RED ? redResult : 1 - redResult;
+			}
+		}
+		
+		/**
+		 * Picks a child for the legal moves in the buffer: a move not tried yet
+		 * if there is one, otherwise the child with the best UCB1 value
+		 */
+		private Node select(Node node, PlayerColor color, Random random) {
+			round++;
+			final int numMoves = moves.size();
+			for (int i = 0; i < numMoves; i++) {
+				stamps[key(moves.get(i))] = round;
+			}
+			
+			int untried = numMoves;
+			Node best = null;
+			double bestValue = Double.NEGATIVE_INFINITY;
+			for (Node child : node.children) {
+				final int key = key(child.move);
+				if (stamps[key] == round) {
+					// tried before, take it out of the untried moves
+					stamps[key] = -round;
+					untried--;
+					child.avails++;
+					final double value = child.wins / child.visits
+							+ exploration * Math.sqrt(Math.log(child.avails) / child.visits);
+					if (value > bestValue) {
+						best = child;
+						bestValue = value;
+					}
+				}
+			}
+			
+			if (untried > 0) {
+				int pick = random.nextInt(untried);
+				for (int i = 0; i < numMoves; i++) {
+					final int move = moves.get(i);
+					if (stamps[key(move)] == round && pick-- == 0) {
+						final Node child = new Node(move, color);
+						child.avails = 1;
+						node.children.add(child);
+						return child;
+					}
+				}
+			}
+			return best;
+		}
+		
+		private int key(int move) {
+			return MoveBuffer.fromOf(move) * numSpaces + MoveBuffer.toOf(move);
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import strategy.common.StrategyRuntimeException;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Searches a position on several threads at once (Lazy SMP). Every thread runs
+ * its own AlphaBetaSearch on its own copy of the game and all of them share one
+ * transposition table, so the helper threads mostly fill the table with results
+ * the main thread then finds instead of searching. Half of the helpers start one
+ * ply deeper than the main thread to spread the work over more of the tree.
+ * 
+ * The main thread runs on the caller and its result is the result of the search;
+ * the helpers stop as soon as it finishes. The limits apply to the main thread.
+ * With one thread the search is exactly AlphaBetaSearch and just as deterministic,
+ * which is what to use when debugging.
+ * 
+ * A parallel search must only be used by one caller at a time.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class ParallelSearch {
+	
+	private final TranspositionTable table;
+	// [0] searches on the caller's thread, the rest are helpers
+	private final AlphaBetaSearch[] searches;
+	private final ExecutorService helpers;
+	
+	/**
+	 * Constructor for ParallelSearch
+	 * @param evaluators creates the evaluator of each thread
+	 * @param table the transposition table shared by all threads
+	 * @param numThreads the number of threads to search with, including the caller's
+	 */
+	public ParallelSearch(Supplier<? extends Evaluator> evaluators, TranspositionTable table, int numThreads) {
+		if (numThreads < 1) {
+			throw new StrategyRuntimeException("A Search Needs at Least One Thread");
+		}
+		this.table = table;
+		searches = new AlphaBetaSearch[numThreads];
+		for (int i = 0; i < numThreads; i++) {
+			searches[i] = new AlphaBetaSearch(evaluators.get(), table);
+		}
+		helpers = numThreads == 1 ? null : newHelperPool(numThreads - 1);
+	}
+	
+	/**
+	 * @param numHelpers the number of helper threads
+	 * @return a pool of daemon threads, which do not keep the program running
+	 */
+	static ExecutorService newHelperPool(int numHelpers) {
+		return Executors.newFixedThreadPool(numHelpers, task -> {
+			final Thread thread = new Thread(task, "search helper");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+	
+	/**
+	 * @return the number of threads searching, including the caller's
+	 */
+	public int getNumThreads() {
+		return searches.length;
+	}
+	
+	/**
+	 * @param maxDepth the deepest iteration to search, from 1 to AlphaBetaSearch.MAX_PLY - 1
+	 */
+	public void setMaxDepth(int maxDepth) {
+		searches[0].setMaxDepth(maxDepth);
+	}
+	
+	/**
+	 * @param nodeLimit the number of moves the main thread may make before the search stops
+	 */
+	public void setNodeLimit(long nodeLimit) {
+		searches[0].setNodeLimit(nodeLimit);
+	}
+	
+	/**
+	 * @param millis how long the search may run before it stops, 0 for no limit
+	 */
+	public void setTimeLimit(long millis) {
+		searches[0].setTimeLimit(millis);
+	}
+	
+	/**
+	 * Stops a running search from another thread. The search returns the result
+	 * of the main thread's deepest completed iteration.
+	 */
+	public void stop() {
+		searches[0].stop();
+	}
+	
+	/**
+	 * Stops the helper threads for good. The search cannot be used afterwards.
+	 */
+	public void shutdown() {
+		if (helpers != null) {
+			helpers.shutdownNow();
+		}
+	}
+	
+	/**
+	 * Searches the current position of a game for the player to move
+	 * @param game the game to search, left in the position it is given in
+	 * @return the result of the main thread, with the nodes of every thread
+	 */
+	public SearchResult search(StrategyGameControllerImpl game) {
+		if (helpers == null) {
+			return searches[0].search(game);
+		}
+		if (game.getPlayerToMove() == null) {
+			throw new StrategyRuntimeException("The game is not in progress");
+		}
+		
+		final long start = System.nanoTime();
+		final AtomicBoolean done = new AtomicBoolean();
+		final Future<?>[] running = new Future<?>[searches.length - 1];
+		table.newSearch();
+		
+		final SearchResult main;
+		try {
+			for (int i = 1; i < searches.length; i++) {
+				final AlphaBetaSearch helper = searches[i];
+				final StrategyGameControllerImpl copy = game.copy();
+				final int firstDepth = 1 + i % 2;
+				running[i - 1] = helpers.submit(() -> helper.search(copy, firstDepth, done));
+			}
+			main = searches[0].search(game, 1, null);
+		}
+		finally {
+			done.set(true);
+			awaitHelpers(running);
+		}
+		
+		final long[] threadNodes = new long[searches.length];
+		for (int i = 0; i < searches.length; i++) {
+			threadNodes[i] = searches[i].getNodes();
+		}
+		return new SearchResult(main.getBestMove(), main.getScore(), main.getDepth(),
+				main.getPrincipalVariation(), System.nanoTime() - start, threadNodes);
+	}
+	
+	/**
+	 * Waits for the helpers of a finished search, so that none of them is still
+	 * using its search object when the next search starts
+	 */
+	static void awaitHelpers(Future<?>[] running) {
+		boolean interrupted = false;
+		Throwable failure = null;
+		for (int i = 0; i < running.length && running[i] != null; i++) {
+			try {
+				running[i].get();
+			}
+			catch (InterruptedException e) {
+				// keep waiting, the helper is about to stop anyway
+				interrupted = true;
+				i--;
+			}
+			catch (ExecutionException e) {
+				failure = e.getCause();
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		if (failure != null) {
+			throw new StrategyRuntimeException("Search Helper Failed", failure);
+		}
+	}
+}
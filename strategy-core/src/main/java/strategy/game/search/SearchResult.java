@@ -0,0 +1,140 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+/**
+ * The outcome of a search: the move to play, its score, the line of play the
+ * search expects and how much work it took to find them
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public final class SearchResult {
+	
+	private final int bestMove;
+	private final int score;
+	private final int depth;
+	private final long nodes;
+	private final int[] principalVariation;
+	private final long elapsedNanos;
+	private final long[] threadNodes;
+	
+	/**
+	 * Constructor for the result of a search on one thread
+	 * @param bestMove the move to play, packed as by MoveBuffer, or TranspositionTable.NO_MOVE
+	 * @param score the score of the move for the player to move
+	 * @param depth the deepest completed iteration
+	 * @param nodes the number of moves made during the search
+	 * @param principalVariation the expected line of play starting with bestMove
+	 * @param elapsedNanos how long the search took
+	 */
+	public SearchResult(int bestMove, int score, int depth, long nodes, int[] principalVariation,
+			long elapsedNanos) {
+		this(bestMove, score, depth, principalVariation, elapsedNanos, new long[] { nodes });
+	}
+	
+	/**
+	 * Constructor for the result of a search on several threads
+	 * @param bestMove the move to play, packed as by MoveBuffer, or TranspositionTable.NO_MOVE
+	 * @param score the score of the move for the player to move
+	 * @param depth the deepest completed iteration
+	 * @param principalVariation the expected line of play starting with bestMove
+	 * @param elapsedNanos how long the search took
+	 * @param threadNodes the number of moves made by each thread, the total is the
+	 * 			number of nodes of the search
+	 */
+	public SearchResult(int bestMove, int score, int depth, int[] principalVariation, long elapsedNanos,
+			long[] threadNodes) {
+		long total = 0;
+		for (long count : threadNodes) {
+			total += count;
+		}
+		this.bestMove = bestMove;
+		this.score = score;
+		this.depth = depth;
+		this.nodes = total;
+		this.principalVariation = principalVariation.clone();
+		this.elapsedNanos = elapsedNanos;
+		this.threadNodes = threadNodes.clone();
+	}
+	
+	/**
+	 * @return the move to play packed as by MoveBuffer, or TranspositionTable.NO_MOVE
+	 * 			if the player to move has no legal move
+	 */
+	public int getBestMove() {
+		return bestMove;
+	}
+	
+	/**
+	 * @return the score of the best move for the player to move
+	 */
+	public int getScore() {
+		return score;
+	}
+	
+	/**
+	 * @return the depth of the deepest completed iteration
+	 */
+	public int getDepth() {
+		return depth;
+	}
+	
+	/**
+	 * @return the number of moves made during the search, by all threads together
+	 */
+	public long getNodes() {
+		return nodes;
+	}
+	
+	/**
+	 * @return a copy of the expected line of play, starting with the best move
+	 */
+	public int[] getPrincipalVariation() {
+		return principalVariation.clone();
+	}
+	
+	/**
+	 * @return how long the search took in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+	
+	/**
+	 * @return the number of nodes searched per second
+	 */
+	public double getNodesPerSecond() {
+		return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+	}
+	
+	/**
+	 * @return the number of threads that searched
+	 */
+	public int getNumThreads() {
+		return threadNodes.length;
+	}
+	
+	/**
+	 * @param thread a thread number, 0 for the thread that chose the move
+	 * @return the number of moves made by the given thread
+	 */
+	public long getThreadNodes(int thread) {
+		return threadNodes[thread];
+	}
+	
+	/**
+	 * @param thread a thread number, 0 for the thread that chose the move
+	 * @return the number of nodes the given thread searched per second
+	 */
+	public double getThreadNodesPerSecond(int thread) {
+		return elapsedNanos == 0 ? 0 : threadNodes[thread] * 1e9 / elapsedNanos;
+	}
+	
+	@Override
+	public String toString() {
+		return "depth " + depth + " score " + score + " nodes " + nodes + " pv " + principalVariation.length
+				+ " threads " + threadNodes.length;
+	}
+}
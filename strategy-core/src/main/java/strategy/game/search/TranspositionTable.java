@@ -0,0 +1,276 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Fixed size hash table of search results, keyed by the positionHash() of a game.
+ * The table is a single long[] with two longs per entry, so it costs nothing to
+ * the garbage collector no matter how big it is.
+ * 
+ * Any number of search threads can share one table without locking. Each entry
+ * is stored as (key ^ data, data); a reader recomputes key from the two words and
+ * ignores the entry if it does not match. An entry torn by two threads writing
+ * at the same time therefore just looks like a miss.
+ * 
+ * The data word packs the score (32 bits), depth (8 bits), bound (2 bits), best
+ * move (14 bits, from and to cell) and the search generation it was stored in (8 bits).
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class TranspositionTable {
+	
+	/** the largest table, 2^29 entries, the most a long[] of two words per entry can hold */
+	public static final int MAX_MEGABYTES = 8192;
+	
+	/** no entry, or an entry without a useful score */
+	public static final int BOUND_NONE = 0;
+	/** the score is exact */
+	public static final int BOUND_EXACT = 1;
+	/** the real score is at least the stored score (the search failed high) */
+	public static final int BOUND_LOWER = 2;
+	/** the real score is at most the stored score (the search failed low) */
+	public static final int BOUND_UPPER = 3;
+	
+	/** returned by move() when an entry has no best move */
+	public static final int NO_MOVE = -1;
+	
+	private static final int DEPTH_SHIFT = 32;
+	private static final int BOUND_SHIFT = 40;
+	private static final int MOVE_SHIFT = 42;
+	private static final int GENERATION_SHIFT = 56;
+	private static final int CELL_BITS = 7;
+	private static final int CELL_MASK = (1 << CELL_BITS) - 1;
+	
+	private final long[] table;
+	private final int indexMask;
+	private volatile int generation;
+	
+	private final LongAdder probes = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder collisions = new LongAdder();
+	private final LongAdder stores = new LongAdder();
+	
+	/**
+	 * Creates a table using roughly the given amount of memory
+	 * @param megabytes the size of the table, rounded down to a power of two number of entries
+	 * @throws IllegalArgumentException if the size is larger than MAX_MEGABYTES
+	 */
+	public TranspositionTable(int megabytes) {
+		if (megabytes > MAX_MEGABYTES) {
+			throw new IllegalArgumentException("A table can use at most " + MAX_MEGABYTES + " megabytes");
+		}
+		final long bytes = Math.max(1L, megabytes) << 20;
+		// 16 bytes per entry
+		final int entries = Integer.highestOneBit((int) (bytes / 16));
+		table = new long[entries * 2];
+		indexMask = entries - 1;
+		generation = 0;
+	}
+	
+	/**
+	 * Looks up a position
+	 * @param key the position hash
+	 * @return the packed data of the entry, or 0 if the position is not in the table
+	 */
+	public long probe(long key) {
+		final int slot = slotOf(key);
+		final long data = table[slot + 1];
+		final long check = table[slot];
+		
+		probes.increment();
+		if ((check ^ data) == key && data != 0) {
+			hits.increment();
+			return data;
+		}
+		if (data != 0) {
+			collisions.increment();
+		}
+		return 0;
+	}
+	
+	/**
+	 * Looks up the current position of a game
+	 * @param game the game
+	 * @return the packed data of the entry, or 0 if the position is not in the table
+	 */
+	public long probe(StrategyGameControllerImpl game) {
+		return probe(game.positionHash());
+	}
+	
+	/**
+	 * Stores the result of searching a position. An existing entry for another
+	 * position is only replaced if it was stored by an older search or was not 
+	 * searched as deep.
+	 * @param key the position hash
+	 * @param score the score of the position
+	 * @param depth the depth the position was searched to (0 to 255)
+	 * @param bound one of BOUND_EXACT, BOUND_LOWER or BOUND_UPPER
+	 * @param move the best move as packed by MoveBuffer, or NO_MOVE
+	 */
+	public void store(long key, int score, int depth, int bound, int move) {
+		final int slot = slotOf(key);
+		final long oldData = table[slot + 1];
+		final long oldKey = table[slot] ^ oldData;
+		final int currentGeneration = generation;
+		
+		if (oldData != 0 && oldKey != key && generation(oldData) == (currentGeneration & 0xFF) 
+				&& depth(oldData) > depth) {
+			return;
+		}
+		
+		int packedMove = 0;
+		if (move != NO_MOVE) {
+			packedMove = MoveBuffer.fromOf(move) | (MoveBuffer.toOf(move) << CELL_BITS);
+		}
+		// keep the best move we already had if this search did not find one
+		else if (oldKey == key && oldData != 0) {
+			packedMove = (int) ((oldData >>> MOVE_SHIFT) & 0x3FFF);
+		}
+		
+		final long data = (score & 0xFFFFFFFFL) 
+				| ((long) (depth & 0xFF) << DEPTH_SHIFT)
+				| ((long) (bound & 0x3) << BOUND_SHIFT)
+				| ((long) packedMove << MOVE_SHIFT)
+				| ((long) (currentGeneration & 0xFF) << GENERATION_SHIFT);
+		
+		table[slot] = key ^ data;
+		table[slot + 1] = data;
+		stores.increment();
+	}
+	
+	/**
+	 * Stores the result of searching the current position of a game
+	 * @param game the game
+	 * @param score the score of the position
+	 * @param depth the depth the position was searched to (0 to 255)
+	 * @param bound one of BOUND_EXACT, BOUND_LOWER or BOUND_UPPER
+	 * @param move the best move as packed by MoveBuffer, or NO_MOVE
+	 */
+	public void store(StrategyGameControllerImpl game, int score, int depth, int bound, int move) {
+		store(game.positionHash(), score, depth, bound, move);
+	}
+	
+	/**
+	 * @param data packed entry data returned by probe
+	 * @return the stored score
+	 */
+	public static int score(long data) {
+		return (int) data;
+	}
+	
+	/**
+	 * @param data packed entry data returned by probe
+	 * @return the stored depth
+	 */
+	public static int depth(long data) {
+		return (int) ((data >>> DEPTH_SHIFT) & 0xFF);
+	}
+	
+	/**
+	 * @param data packed entry data returned by probe
+	 * @return the stored bound, BOUND_NONE if there was no entry
+	 */
+	public static int bound(long data) {
+		return (int) ((data >>> BOUND_SHIFT) & 0x3);
+	}
+	
+	/**
+	 * @param data packed entry data returned by probe
+	 * @return the stored best move packed as by MoveBuffer, or NO_MOVE
+	 */
+	public static int move(long data) {
+		final int packedMove = (int) ((data >>> MOVE_SHIFT) & 0x3FFF);
+		if (packedMove == 0) {
+			return NO_MOVE;
+		}
+		return MoveBuffer.encode(packedMove & CELL_MASK, packedMove >>> CELL_BITS);
+	}
+	
+	/**
+	 * @param data packed entry data
+	 * @return the search generation the entry was stored in
+	 */
+	private static int generation(long data) {
+		return (int) (data >>> GENERATION_SHIFT);
+	}
+	
+	/**
+	 * Marks the start of a new search, so that entries of earlier searches are
+	 * replaced first
+	 */
+	public void newSearch() {
+		generation = generation + 1;
+	}
+	
+	/**
+	 * Removes every entry and resets the counters
+	 */
+	public void clear() {
+		for (int i = 0; i < table.length; i++) {
+			table[i] = 0;
+		}
+		probes.reset();
+		hits.reset();
+		collisions.reset();
+		stores.reset();
+	}
+	
+	/**
+	 * @return the number of entries the table can hold
+	 */
+	public int capacity() {
+		return indexMask + 1;
+	}
+	
+	/**
+	 * @return the number of lookups made
+	 */
+	public long getProbes() {
+		return probes.sum();
+	}
+	
+	/**
+	 * @return the number of lookups that found their position
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+	
+	/**
+	 * @return the number of lookups that found another position (or a torn entry) in the slot
+	 */
+	public long getCollisions() {
+		return collisions.sum();
+	}
+	
+	/**
+	 * @return the number of entries written
+	 */
+	public long getStores() {
+		return stores.sum();
+	}
+	
+	/**
+	 * @return the fraction of lookups that found their position
+	 */
+	public double getHitRate() {
+		final long numProbes = probes.sum();
+		return numProbes == 0 ? 0.0 : (double) hits.sum() / numProbes;
+	}
+	
+	/**
+	 * @param key a position hash
+	 * @return the index of the first word of the entry for the key
+	 */
+	private int slotOf(long key) {
+		// the low bits pick the slot, mixing in the high bits spreads nearby keys out
+		return (((int) (key ^ (key >>> 32))) & indexMask) << 1;
+	}
+}
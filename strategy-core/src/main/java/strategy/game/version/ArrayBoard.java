@@ -0,0 +1,275 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import java.util.function.IntConsumer;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Coordinate;
+import strategy.game.common.Location;
+import strategy.game.common.Location2D;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceType;
+
+/**
+ * Board implementation backed by a flat byte array with one cell per space.
+ * Each cell holds a small piece code instead of a Piece reference, so reading
+ * and writing a space never hashes or allocates.
+ * 
+ * Codes: 0 is an empty space, 1 + color * 14 + type is a player's piece and
+ * CHOKE_CODE is a choke point (which has no owner).
+ * 
+ * Alongside the cells the board keeps a list of occupied cells per color. A
+ * cell's slot in its list is remembered, so a piece leaving the board is
+ * removed in constant time by moving the last entry of the list into its slot.
+ * The order of a list is therefore not the cell order, but it is the same for
+ * the same sequence of writes. The board also counts how many cells hold each
+ * code, which gives the material of both players without a scan.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class ArrayBoard implements Board {
+	
+	public static final byte EMPTY_CODE = Piece.EMPTY_CODE;
+	public static final byte CHOKE_CODE = Piece.CHOKE_CODE;
+	
+	private static final int CODES_PER_COLOR = PieceType.values().length;
+	
+	private final int width;
+	private final int height;
+	private final byte[] cells;
+	private final int[] pieceCells;
+	private final int[] pieceSlots;
+	private final int[] pieceCounts;
+	private final int[] codeCounts;
+	
+	/**
+	 * Creates an empty board of the given size
+	 * @param width number of columns on the board
+	 * @param height number of rows on the board
+	 */
+	public ArrayBoard(int width, int height) {
+		this.width = width;
+		this.height = height;
+		cells = new byte[width * height];
+		pieceCells = new int[PlayerColor.values().length * cells.length];
+		pieceSlots = new int[cells.length];
+		pieceCounts = new int[PlayerColor.values().length];
+		codeCounts = new int[Piece.NUM_CODES];
+		codeCounts[EMPTY_CODE] = cells.length;
+	}
+	
+	/**
+	 * Copy constructor for ArrayBoard
+	 * @param other the board to copy, cells and piece lists included
+	 */
+	public ArrayBoard(ArrayBoard other) {
+		width = other.width;
+		height = other.height;
+		cells = other.cells.clone();
+		pieceCells = other.pieceCells.clone();
+		pieceSlots = other.pieceSlots.clone();
+		pieceCounts = other.pieceCounts.clone();
+		codeCounts = other.codeCounts.clone();
+	}
+	
+	/**
+	 * Makes this board the same as another board of the same size, without
+	 * allocating anything
+	 * @param other the board to copy
+	 */
+	public void copyFrom(ArrayBoard other) {
+		System.arraycopy(other.cells, 0, cells, 0, cells.length);
+		System.arraycopy(other.pieceCells, 0, pieceCells, 0, pieceCells.length);
+		System.arraycopy(other.pieceSlots, 0, pieceSlots, 0, pieceSlots.length);
+		System.arraycopy(other.pieceCounts, 0, pieceCounts, 0, pieceCounts.length);
+		System.arraycopy(other.codeCounts, 0, codeCounts, 0, codeCounts.length);
+	}
+	
+	/**
+	 * Translates a piece to its cell code
+	 * @param piece the piece to translate, may be null
+	 * @return the code for the piece
+	 */
+	public static byte codeOf(Piece piece) {
+		return piece == null ? EMPTY_CODE : piece.getCode();
+	}
+	
+	/**
+	 * Translates a cell code back to its piece
+	 * @param code the code to translate
+	 * @return the piece for the code or null for an empty cell
+	 */
+	public static Piece pieceOf(byte code) {
+		return Piece.ofCode(code);
+	}
+
+	@Override
+	public int getWidth() {
+		return width;
+	}
+
+	@Override
+	public int getHeight() {
+		return height;
+	}
+
+	@Override
+	public int size() {
+		return cells.length;
+	}
+
+	@Override
+	public int indexOf(Location location) {
+		return indexOf(location, width, height);
+	}
+	
+	/**
+	 * @param location a location, or null
+	 * @param width number of columns on the board
+	 * @param height number of rows on the board
+	 * @return the cell index of the location, or -1 if it is not on the board
+	 */
+	static int indexOf(Location location, int width, int height) {
+		if (location == null) {
+			return -1;
+		}
+		final int x, y;
+		if (location instanceof Location2D) {
+			x = ((Location2D) location).x();
+			y = ((Location2D) location).y();
+		}
+		else {
+			x = location.getCoordinate(Coordinate.X_COORDINATE);
+			y = location.getCoordinate(Coordinate.Y_COORDINATE);
+		}
+		
+		if (x < 0 || x >= width || y < 0 || y >= height) {
+			return -1;
+		}
+		return y * width + x;
+	}
+
+	@Override
+	public boolean isOnBoard(Location location) {
+		return indexOf(location) >= 0;
+	}
+
+	@Override
+	public Piece getPieceAt(Location location) {
+		final int index = indexOf(location);
+		return index < 0 ? null : Piece.ofCode(cells[index]);
+	}
+
+	@Override
+	public void setPieceAt(Location location, Piece piece) {
+		setCode(indexOf(location), codeOf(piece));
+	}
+
+	@Override
+	public Piece getPieceAt(int index) {
+		return Piece.ofCode(cells[index]);
+	}
+
+	@Override
+	public void setPieceAt(int index, Piece piece) {
+		setCode(index, codeOf(piece));
+	}
+	
+	/**
+	 * @param index the cell index to read
+	 * @return the code of the piece on the given cell
+	 */
+	public byte getCode(int index) {
+		return cells[index];
+	}
+	
+	/**
+	 * @param index the cell index to write
+	 * @param code the code of the piece to place on the given cell
+	 */
+	public void setCode(int index, byte code) {
+		codeCounts[cells[index]]--;
+		codeCounts[code]++;
+		
+		final int oldColor = colorOf(cells[index]);
+		final int newColor = colorOf(code);
+		if (oldColor != newColor) {
+			if (oldColor >= 0) {
+				removePiece(oldColor, index);
+			}
+			if (newColor >= 0) {
+				addPiece(newColor, index);
+			}
+		}
+		cells[index] = code;
+	}
+	
+	/**
+	 * @param code a cell code
+	 * @return the ordinal of the owner of the piece with the given code, or -1
+	 * for an empty cell or a choke point
+	 */
+	protected static int colorOf(byte code) {
+		return code == EMPTY_CODE || code == CHOKE_CODE ? -1 : (code - 1) / CODES_PER_COLOR;
+	}
+	
+	private void addPiece(int color, int index) {
+		final int slot = pieceCounts[color]++;
+		pieceCells[color * cells.length + slot] = index;
+		pieceSlots[index] = slot;
+	}
+	
+	private void removePiece(int color, int index) {
+		final int base = color * cells.length;
+		final int slot = pieceSlots[index];
+		final int last = pieceCells[base + --pieceCounts[color]];
+		pieceCells[base + slot] = last;
+		pieceSlots[last] = slot;
+	}
+	
+	@Override
+	public int getPieceCount(PlayerColor color) {
+		return pieceCounts[color.ordinal()];
+	}
+	
+	@Override
+	public int getPieceCount(PlayerColor color, PieceType type) {
+		return codeCounts[1 + color.ordinal() * CODES_PER_COLOR + type.ordinal()];
+	}
+	
+	@Override
+	public int getPieceCell(PlayerColor color, int i) {
+		return pieceCells[color.ordinal() * cells.length + i];
+	}
+	
+	@Override
+	public void forEachPiece(PlayerColor color, IntConsumer action) {
+		final int base = color.ordinal() * cells.length;
+		final int count = pieceCounts[color.ordinal()];
+		for (int i = 0; i < count; i++) {
+			action.accept(pieceCells[base + i]);
+		}
+	}
+
+	@Override
+	public boolean isEmpty(int index) {
+		return cells[index] == EMPTY_CODE;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = EMPTY_CODE;
+		}
+		for (int i = 0; i < pieceCounts.length; i++) {
+			pieceCounts[i] = 0;
+		}
+		for (int i = 0; i < codeCounts.length; i++) {
+			codeCounts[i] = 0;
+		}
+		codeCounts[EMPTY_CODE] = cells.length;
+	}
+}
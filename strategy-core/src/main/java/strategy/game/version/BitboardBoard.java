@@ -0,0 +1,247 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Piece;
+
+/**
+ * Board that keeps bitboards next to the cell array: one set of cells for each
+ * piece code, for each color, and for every occupied space (choke points 
+ * included). Each set is two longs, which covers boards of up to 128 spaces.
+ * 
+ * The sets answer the questions move checking and search ask most, such as
+ * whether anything stands between two cells, with a few masks instead of a 
+ * loop over the cells.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class BitboardBoard extends ArrayBoard {
+	
+	private final BitboardMasks masks;
+	
+	// [code * 2] low word and [code * 2 + 1] high word of the cells holding each code
+	private final long[] codeBits = new long[(CHOKE_CODE + 1) * 2];
+	// [color * 2] and [color * 2 + 1], cells holding a piece of that color
+	private final long[] colorBits = new long[4];
+	private long occupiedLow, occupiedHigh;
+	
+	/**
+	 * @param width the width of the board
+	 * @param height the height of the board, width * height may be at most 128
+	 */
+	public BitboardBoard(int width, int height) {
+		super(width, height);
+		masks = BitboardMasks.forSize(width, height);
+	}
+	
+	/**
+	 * Copy constructor for BitboardBoard
+	 * @param other the board to copy
+	 */
+	public BitboardBoard(BitboardBoard other) {
+		super(other);
+		masks = other.masks;
+		System.arraycopy(other.codeBits, 0, codeBits, 0, codeBits.length);
+		System.arraycopy(other.colorBits, 0, colorBits, 0, colorBits.length);
+		occupiedLow = other.occupiedLow;
+		occupiedHigh = other.occupiedHigh;
+	}
+	
+	/**
+	 * @param other the board to copy, which must be a BitboardBoard as well
+	 */
+	@Override
+	public void copyFrom(ArrayBoard other) {
+		final BitboardBoard bits = (BitboardBoard) other;
+		super.copyFrom(other);
+		System.arraycopy(bits.codeBits, 0, codeBits, 0, codeBits.length);
+		System.arraycopy(bits.colorBits, 0, colorBits, 0, colorBits.length);
+		occupiedLow = bits.occupiedLow;
+		occupiedHigh = bits.occupiedHigh;
+	}
+	
+	/**
+	 * @return the masks of this board size
+	 */
+	public BitboardMasks getMasks() {
+		return masks;
+	}
+	
+	@Override
+	public void setCode(int index, byte code) {
+		final byte oldCode = getCode(index);
+		if (oldCode == code) {
+			return;
+		}
+		
+		final int word = index >>> 6;
+		final long bit = 1L << (index & 63);
+		
+		if (oldCode != EMPTY_CODE) {
+			toggle(oldCode, word, bit);
+		}
+		if (code != EMPTY_CODE) {
+			toggle(code, word, bit);
+		}
+		super.setCode(index, code);
+	}
+	
+	/**
+	 * Flips a cell in the sets of a code
+	 * @param code a piece code other than EMPTY_CODE
+	 * @param word 0 for the low word, 1 for the high word
+	 * @param bit the bit of the cell within the word
+	 */
+	private void toggle(byte code, int word, long bit) {
+		codeBits[code * 2 + word] ^= bit;
+		if (code != CHOKE_CODE) {
+			colorBits[colorOf(code) * 2 + word] ^= bit;
+		}
+		if (word == 0) {
+			occupiedLow ^= bit;
+		}
+		else {
+			occupiedHigh ^= bit;
+		}
+	}
+	
+	@Override
+	public void clear() {
+		super.clear();
+		for (int i = 0; i < codeBits.length; i++) {
+			codeBits[i] = 0;
+		}
+		for (int i = 0; i < colorBits.length; i++) {
+			colorBits[i] = 0;
+		}
+		occupiedLow = 0;
+		occupiedHigh = 0;
+	}
+	
+	/**
+	 * @param from a cell index
+	 * @param to a cell index in the same row or column
+	 * @return true if any space strictly between the two is not empty
+	 */
+	public boolean isPathBlocked(int from, int to) {
+		return (masks.betweenLow(from, to) & occupiedLow) != 0
+				|| (masks.betweenHigh(from, to) & occupiedHigh) != 0;
+	}
+	
+	/**
+	 * @param from a cell index
+	 * @param direction one of the BitboardMasks directions
+	 * @return the index of the first non-empty space in that direction, -1 if there is none
+	 */
+	public int nearestBlocker(int from, int direction) {
+		final long low = masks.rayLow(from, direction) & occupiedLow;
+		final long high = masks.rayHigh(from, direction) & occupiedHigh;
+		
+		if (BitboardMasks.isIncreasing(direction)) {
+			if (low != 0) {
+				return Long.numberOfTrailingZeros(low);
+			}
+			return high != 0 ? 64 + Long.numberOfTrailingZeros(high) : -1;
+		}
+		if (high != 0) {
+			return 127 - Long.numberOfLeadingZeros(high);
+		}
+		return low != 0 ? 63 - Long.numberOfLeadingZeros(low) : -1;
+	}
+	
+	/**
+	 * @param from a cell index
+	 * @param direction one of the BitboardMasks directions
+	 * @return low word of the empty spaces in that direction up to the first non-empty space
+	 */
+	public long emptyRayLow(int from, int direction) {
+		final int blocker = nearestBlocker(from, direction);
+		return blocker < 0 ? masks.rayLow(from, direction) : masks.betweenLow(from, blocker);
+	}
+	
+	/**
+	 * @param from a cell index
+	 * @param direction one of the BitboardMasks directions
+	 * @return high word of the empty spaces in that direction up to the first non-empty space
+	 */
+	public long emptyRayHigh(int from, int direction) {
+		final int blocker = nearestBlocker(from, direction);
+		return blocker < 0 ? masks.rayHigh(from, direction) : masks.betweenHigh(from, blocker);
+	}
+	
+	/**
+	 * @param cell a cell index
+	 * @param color the player whose enemies are wanted
+	 * @return low word of the spaces next to the cell holding a piece of the other color
+	 */
+	public long enemyNeighboursLow(int cell, PlayerColor color) {
+		return masks.neighbourLow(cell) & colorBits[(1 - color.ordinal()) * 2];
+	}
+	
+	/**
+	 * @param cell a cell index
+	 * @param color the player whose enemies are wanted
+	 * @return high word of the spaces next to the cell holding a piece of the other color
+	 */
+	public long enemyNeighboursHigh(int cell, PlayerColor color) {
+		return masks.neighbourHigh(cell) & colorBits[(1 - color.ordinal()) * 2 + 1];
+	}
+	
+	/**
+	 * @param cell a cell index
+	 * @param color the player whose enemies are wanted
+	 * @return true if a piece of the other color is next to the cell
+	 */
+	public boolean hasEnemyNeighbour(int cell, PlayerColor color) {
+		return (enemyNeighboursLow(cell, color) | enemyNeighboursHigh(cell, color)) != 0;
+	}
+	
+	/**
+	 * @return low word of the occupied spaces
+	 */
+	public long occupiedLow() {
+		return occupiedLow;
+	}
+	
+	/**
+	 * @return high word of the occupied spaces
+	 */
+	public long occupiedHigh() {
+		return occupiedHigh;
+	}
+	
+	/**
+	 * @param color a player
+	 * @return low word of the spaces holding the player's pieces
+	 */
+	public long colorLow(PlayerColor color) {
+		return colorBits[color.ordinal() * 2];
+	}
+	
+	/**
+	 * @param color a player
+	 * @return high word of the spaces holding the player's pieces
+	 */
+	public long colorHigh(PlayerColor color) {
+		return colorBits[color.ordinal() * 2 + 1];
+	}
+	
+	/**
+	 * @param piece a piece, or the choke point piece
+	 * @return low word of the spaces holding that piece
+	 */
+	public long piecesLow(Piece piece) {
+		return codeBits[codeOf(piece) * 2];
+	}
+	
+	/**
+	 * @param piece a piece, or the choke point piece
+	 * @return high word of the spaces holding that piece
+	 */
+	public long piecesHigh(Piece piece) {
+		return codeBits[codeOf(piece) * 2 + 1];
+	}
+}
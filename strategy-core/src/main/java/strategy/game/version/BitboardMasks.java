@@ -0,0 +1,208 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import strategy.common.StrategyRuntimeException;
+
+/**
+ * Precomputed cell masks for one board size, used by BitboardBoard. A set of 
+ * cells is two longs: the low word holds cells 0 to 63 and the high word cells
+ * 64 to 127. The masks only depend on the width and height of the board, so
+ * they are built once per size and shared by every game of that size.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public final class BitboardMasks {
+	
+	/** largest board that fits in two longs */
+	public static final int MAX_CELLS = 128;
+	
+	/** toward x - 1 */
+	public static final int WEST = 0;
+	/** toward x + 1 */
+	public static final int EAST = 1;
+	/** toward y - 1 */
+	public static final int SOUTH = 2;
+	/** toward y + 1 */
+	public static final int NORTH = 3;
+	
+	private static final ConcurrentMap<Integer, BitboardMasks> CACHE = 
+			new ConcurrentHashMap<Integer, BitboardMasks>();
+	
+	private final int width;
+	private final int numCells;
+	
+	// cells strictly beyond a cell in a direction, indexed by direction * numCells + cell
+	private final long[] rayLow, rayHigh;
+	// cells strictly between two cells in line, indexed by from * numCells + to
+	private final long[] betweenLow, betweenHigh;
+	// cells one step away from a cell
+	private final long[] neighbourLow, neighbourHigh;
+	
+	private BitboardMasks(int width, int height) {
+		this.width = width;
+		numCells = width * height;
+		
+		rayLow = new long[4 * numCells];
+		rayHigh = new long[4 * numCells];
+		betweenLow = new long[numCells * numCells];
+		betweenHigh = new long[numCells * numCells];
+		neighbourLow = new long[numCells];
+		neighbourHigh = new long[numCells];
+		
+		for (int cell = 0; cell < numCells; cell++) {
+			for (int direction = WEST; direction <= NORTH; direction++) {
+				final int step = step(direction);
+				long low = 0, high = 0;
+				
+				for (int to = cell + step; isStepOnBoard(to - step, direction); to += step) {
+					// the cells passed over on the way to 'to' are between the two
+					betweenLow[cell * numCells + to] = low;
+					betweenHigh[cell * numCells + to] = high;
+					
+					if (to < 64) {
+						low |= 1L << to;
+					}
+					else {
+						high |= 1L << (to - 64);
+					}
+				}
+				rayLow[direction * numCells + cell] = low;
+				rayHigh[direction * numCells + cell] = high;
+				
+				if (isStepOnBoard(cell, direction)) {
+					final int next = cell + step;
+					if (next < 64) {
+						neighbourLow[cell] |= 1L << next;
+					}
+					else {
+						neighbourHigh[cell] |= 1L << (next - 64);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param width the width of the board
+	 * @param height the height of the board
+	 * @return the shared masks for a board of that size
+	 */
+	public static BitboardMasks forSize(int width, int height) {
+		if (width * height > MAX_CELLS) {
+			throw new StrategyRuntimeException("Bitboards only support boards of up to " + MAX_CELLS + " spaces");
+		}
+		
+		final Integer key = width * (MAX_CELLS + 1) + height;
+		BitboardMasks masks = CACHE.get(key);
+		if (masks == null) {
+			masks = new BitboardMasks(width, height);
+			final BitboardMasks existing = CACHE.putIfAbsent(key, masks);
+			if (existing != null) {
+				masks = existing;
+			}
+		}
+		return masks;
+	}
+	
+	/**
+	 * @param direction WEST, EAST, SOUTH or NORTH
+	 * @return the change in cell index of one step in that direction
+	 */
+	public int step(int direction) {
+		switch (direction) {
+			case WEST:
+				return -1;
+			case EAST:
+				return 1;
+			case SOUTH:
+				return -width;
+			default:
+				return width;
+		}
+	}
+	
+	/**
+	 * @param cell a cell index
+	 * @param direction WEST, EAST, SOUTH or NORTH
+	 * @return true if a step from the cell in that direction stays on the board
+	 */
+	public boolean isStepOnBoard(int cell, int direction) {
+		switch (direction) {
+			case WEST:
+				return cell % width > 0;
+			case EAST:
+				return cell % width < width - 1;
+			case SOUTH:
+				return cell >= width;
+			default:
+				return cell + width < numCells;
+		}
+	}
+	
+	/**
+	 * @param direction a direction
+	 * @return true if stepping in the direction increases the cell index
+	 */
+	public static boolean isIncreasing(int direction) {
+		return direction == EAST || direction == NORTH;
+	}
+	
+	/**
+	 * @param cell a cell index
+	 * @param direction a direction
+	 * @return low word of the cells beyond the cell in the direction
+	 */
+	public long rayLow(int cell, int direction) {
+		return rayLow[direction * numCells + cell];
+	}
+	
+	/**
+	 * @param cell a cell index
+	 * @param direction a direction
+	 * @return high word of the cells beyond the cell in the direction
+	 */
+	public long rayHigh(int cell, int direction) {
+		return rayHigh[direction * numCells + cell];
+	}
+	
+	/**
+	 * Both words are 0 if the cells are not in the same row or column
+	 * @param from a cell index
+	 * @param to a cell index
+	 * @return low word of the cells strictly between the two cells
+	 */
+	public long betweenLow(int from, int to) {
+		return betweenLow[from * numCells + to];
+	}
+	
+	/**
+	 * @param from a cell index
+	 * @param to a cell index
+	 * @return high word of the cells strictly between the two cells
+	 */
+	public long betweenHigh(int from, int to) {
+		return betweenHigh[from * numCells + to];
+	}
+	
+	/**
+	 * @param cell a cell index
+	 * @return low word of the cells next to the cell
+	 */
+	public long neighbourLow(int cell) {
+		return neighbourLow[cell];
+	}
+	
+	/**
+	 * @param cell a cell index
+	 * @return high word of the cells next to the cell
+	 */
+	public long neighbourHigh(int cell) {
+		return neighbourHigh[cell];
+	}
+}
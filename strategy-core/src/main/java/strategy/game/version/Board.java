@@ -0,0 +1,117 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import java.util.function.IntConsumer;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Location;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceType;
+
+/**
+ * The Board is the storage used by the Strategy game controllers to keep track
+ * of which piece is on which space. Every space on the board has a dense cell
+ * index (index = y * width + x) so that the controllers can work with plain ints
+ * on the hot path, and the Location based methods are kept as adapters for the
+ * public API.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public interface Board {
+	
+	/**
+	 * @return the number of columns on the board
+	 */
+	int getWidth();
+	
+	/**
+	 * @return the number of rows on the board
+	 */
+	int getHeight();
+	
+	/**
+	 * @return the total number of spaces on the board
+	 */
+	int size();
+	
+	/**
+	 * Translates a location to its cell index
+	 * @param location the location to translate
+	 * @return the cell index of the location or -1 if the location is not on the board
+	 */
+	int indexOf(Location location);
+	
+	/**
+	 * @param location the location to check
+	 * @return true if the location is a space on the board
+	 */
+	boolean isOnBoard(Location location);
+	
+	/**
+	 * @param location the location of the desired piece
+	 * @return the piece at the given location or null if there is none
+	 */
+	Piece getPieceAt(Location location);
+	
+	/**
+	 * Places a piece on the board, replacing anything that was there already
+	 * @param location the location to place the piece at
+	 * @param piece the piece to place, null to empty the space
+	 */
+	void setPieceAt(Location location, Piece piece);
+	
+	/**
+	 * @param index the cell index of the desired piece
+	 * @return the piece at the given cell or null if there is none
+	 */
+	Piece getPieceAt(int index);
+	
+	/**
+	 * Places a piece on the board, replacing anything that was there already
+	 * @param index the cell index to place the piece at
+	 * @param piece the piece to place, null to empty the space
+	 */
+	void setPieceAt(int index, Piece piece);
+	
+	/**
+	 * @param index the cell index to check
+	 * @return true if there is no piece (or choke point) on the given cell
+	 */
+	boolean isEmpty(int index);
+	
+	/**
+	 * @param color the owner of the pieces to count
+	 * @return the number of pieces of the given color on the board
+	 */
+	int getPieceCount(PlayerColor color);
+	
+	/**
+	 * @param color the owner of the pieces to count
+	 * @param type the type of the pieces to count
+	 * @return the number of pieces of the given color and type on the board
+	 */
+	int getPieceCount(PlayerColor color, PieceType type);
+	
+	/**
+	 * @param color the owner of the piece
+	 * @param i the position in the color's piece list, from 0 to getPieceCount(color) - 1
+	 * @return the cell index of the i-th piece of the given color
+	 */
+	int getPieceCell(PlayerColor color, int i);
+	
+	/**
+	 * Passes the cell index of every piece of the given color to the action.
+	 * The action must not change the board.
+	 * @param color the owner of the pieces to visit
+	 * @param action the action to run for every cell holding one of the pieces
+	 */
+	void forEachPiece(PlayerColor color, IntConsumer action);
+	
+	/**
+	 * Removes every piece from the board
+	 */
+	void clear();
+}
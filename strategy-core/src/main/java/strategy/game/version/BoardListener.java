@@ -0,0 +1,35 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import strategy.game.common.Piece;
+
+/**
+ * Follows the board of a game as it changes, for anything that keeps running
+ * totals of the position instead of reading all of it again, like an
+ * incremental evaluator. Every cell change made by a move, a battle or taking
+ * a move back is reported on its own, in the order it is made.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public interface BoardListener {
+	
+	/**
+	 * Called after a cell of the board has changed. The other cells are as they
+	 * were before the change.
+	 * @param index the cell index that changed
+	 * @param removed the piece that was on the cell, or null if it was empty
+	 * @param added the piece now on the cell, or null if it is empty now
+	 */
+	void pieceChanged(int index, Piece removed, Piece added);
+	
+	/**
+	 * Called when the listener is attached to a game and whenever the whole
+	 * board of that game is replaced at once, so the listener must read the 
+	 * board again
+	 * @param game the game whose board changed
+	 */
+	void boardChanged(StrategyGameControllerImpl game);
+}
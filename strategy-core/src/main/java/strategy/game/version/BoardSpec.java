@@ -0,0 +1,116 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Location;
+import strategy.game.common.Location2D;
+
+/**
+ * Immutable description of the board used by a version of Strategy: its size,
+ * the number of pieces each player sets up, where the choke points are and
+ * where each player sets up. Red fills the first numPieces cells of the board
+ * (the rows at y = 0 and up) and blue fills the last numPieces cells.
+ * 
+ * There is a single instance per version, shared by reference between every
+ * game of that version, so games of different versions can run side by side.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public final class BoardSpec {
+	
+	private final int width;
+	private final int height;
+	private final int numPieces;
+	private final Location[] chokePointLocations;
+	private final Location[] locations;
+	
+	/**
+	 * Constructor for BoardSpec
+	 * @param width number of columns on the board
+	 * @param height number of rows on the board
+	 * @param numPieces number of pieces each player starts with
+	 * @param chokePointLocations locations of the choke points
+	 */
+	public BoardSpec(int width, int height, int numPieces, Location[] chokePointLocations) {
+		this.width = width;
+		this.height = height;
+		this.numPieces = numPieces;
+		this.chokePointLocations = chokePointLocations.clone();
+		
+		// one shared location per cell so translating a cell index never allocates
+		locations = Location2D.grid(width, height);
+	}
+
+	/**
+	 * @return the number of columns on the board
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return the number of rows on the board
+	 */
+	public int getHeight() {
+		return height;
+	}
+	
+	/**
+	 * @return the total number of spaces on the board
+	 */
+	public int getNumSpaces() {
+		return width * height;
+	}
+
+	/**
+	 * @param index a cell index on the board
+	 * @return the location of the cell
+	 */
+	public Location getLocation(int index) {
+		return locations[index];
+	}
+	
+	/**
+	 * @param location a location, or null
+	 * @return the cell index of the location, or -1 if it is not on the board
+	 */
+	public int indexOf(Location location) {
+		return ArrayBoard.indexOf(location, width, height);
+	}
+
+	/**
+	 * @return the number of pieces each player starts with
+	 */
+	public int getNumPieces() {
+		return numPieces;
+	}
+
+	/**
+	 * @return a copy of the choke point locations
+	 */
+	public Location[] getChokePointLocations() {
+		return chokePointLocations.clone();
+	}
+
+	/**
+	 * @param color the color of the setup
+	 * @return the cell index of the first space of the given color's setup area,
+	 * 			which covers getNumPieces() consecutive cells
+	 */
+	public int getSetupStart(PlayerColor color) {
+		return color == PlayerColor.RED ? 0 : getNumSpaces() - numPieces;
+	}
+	
+	/**
+	 * @param color the color of the setup
+	 * @param index a cell index on the board
+	 * @return true if the given player sets up a piece on the given cell
+	 */
+	public boolean isSetupCell(PlayerColor color, int index) {
+		final int start = getSetupStart(color);
+		return index >= start && index < start + numPieces;
+	}
+}
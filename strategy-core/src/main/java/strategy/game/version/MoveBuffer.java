@@ -0,0 +1,141 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+/**
+ * Reusable list of moves filled in by the move generator. Each move is packed
+ * into a single int holding the cell index the piece moves from and the cell
+ * index it moves to, so filling the buffer never allocates once it has grown
+ * to the size a game needs.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class MoveBuffer {
+	
+	private static final int DEFAULT_CAPACITY = 256;
+	
+	private int[] moves;
+	private int size;
+	
+	/**
+	 * Creates an empty buffer big enough for any position on the standard boards
+	 */
+	public MoveBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Creates an empty buffer
+	 * @param capacity the number of moves the buffer can hold before it has to grow
+	 */
+	public MoveBuffer(int capacity) {
+		moves = new int[Math.max(capacity, 1)];
+		size = 0;
+	}
+	
+	/**
+	 * Packs a move into an int
+	 * @param from cell index the piece is moving from
+	 * @param to cell index the piece is moving to
+	 * @return the packed move
+	 */
+	public static int encode(int from, int to) {
+		return from | (to << 16);
+	}
+	
+	/**
+	 * @param move a packed move
+	 * @return the cell index the piece is moving from
+	 */
+	public static int fromOf(int move) {
+		return move & 0xFFFF;
+	}
+	
+	/**
+	 * @param move a packed move
+	 * @return the cell index the piece is moving to
+	 */
+	public static int toOf(int move) {
+		return move >>> 16;
+	}
+	
+	/**
+	 * Adds a move to the end of the buffer
+	 * @param from cell index the piece is moving from
+	 * @param to cell index the piece is moving to
+	 */
+	public void add(int from, int to) {
+		if (size == moves.length) {
+			final int[] grown = new int[moves.length * 2];
+			System.arraycopy(moves, 0, grown, 0, size);
+			moves = grown;
+		}
+		moves[size++] = encode(from, to);
+	}
+	
+	/**
+	 * Empties the buffer without releasing its storage
+	 */
+	public void clear() {
+		size = 0;
+	}
+	
+	/**
+	 * @return the number of moves in the buffer
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * @param i position of the move in the buffer
+	 * @return the packed move
+	 */
+	public int get(int i) {
+		return moves[i];
+	}
+	
+	/**
+	 * @param i position of the move in the buffer
+	 * @return the cell index the piece is moving from
+	 */
+	public int getFrom(int i) {
+		return fromOf(moves[i]);
+	}
+	
+	/**
+	 * @param i position of the move in the buffer
+	 * @return the cell index the piece is moving to
+	 */
+	public int getTo(int i) {
+		return toOf(moves[i]);
+	}
+	
+	/**
+	 * Exchanges two moves in the buffer, so callers can reorder the moves in place
+	 * @param i position of the first move
+	 * @param j position of the second move
+	 */
+	public void swap(int i, int j) {
+		final int move = moves[i];
+		moves[i] = moves[j];
+		moves[j] = move;
+	}
+	
+	/**
+	 * @param from cell index the piece is moving from
+	 * @param to cell index the piece is moving to
+	 * @return true if the buffer holds the given move
+	 */
+	public boolean contains(int from, int to) {
+		final int move = encode(from, to);
+		for (int i = 0; i < size; i++) {
+			if (moves[i] == move) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import strategy.game.common.MoveResult;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+
+/**
+ * The result of a move packed into a long, so making a move does not have to
+ * allocate a MoveResult. The low byte is the MoveResultStatus, the next byte is 
+ * the code of the piece left standing by the move (0 if there is none, as after
+ * a draw) and the next 16 bits are the cell index of that piece.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public final class MoveOutcome {
+	
+	/** not an outcome, used where no move has been made */
+	public static final long NONE = -1L;
+	
+	private static final MoveResultStatus[] STATUSES = MoveResultStatus.values();
+	
+	private MoveOutcome() {
+		// only static helpers
+	}
+	
+	/**
+	 * @param status the status of the move
+	 * @param winner the piece left standing, or null
+	 * @param winnerCell the cell index of that piece, ignored if there is none
+	 * @return the packed outcome
+	 */
+	public static long encode(MoveResultStatus status, Piece winner, int winnerCell) {
+		if (winner == null) {
+			return status.ordinal();
+		}
+		return status.ordinal() | ((long) winner.getCode() << 8) | ((long) winnerCell << 16);
+	}
+	
+	/**
+	 * @param outcome a packed outcome
+	 * @param status the new status
+	 * @return the outcome with the same winner but the given status
+	 */
+	public static long withStatus(long outcome, MoveResultStatus status) {
+		return (outcome & ~0xFFL) | status.ordinal();
+	}
+	
+	/**
+	 * @param outcome a packed outcome
+	 * @return the status of the move
+	 */
+	public static MoveResultStatus statusOf(long outcome) {
+		return STATUSES[(int) (outcome & 0xFF)];
+	}
+	
+	/**
+	 * @param outcome a packed outcome
+	 * @return the piece left standing by the move, or null
+	 */
+	public static Piece winnerOf(long outcome) {
+		return Piece.ofCode((byte) ((outcome >>> 8) & 0xFF));
+	}
+	
+	/**
+	 * @param outcome a packed outcome
+	 * @return the cell index of the piece left standing, or -1 if there is none
+	 */
+	public static int winnerCellOf(long outcome) {
+		return winnerOf(outcome) == null ? -1 : (int) ((outcome >>> 16) & 0xFFFF);
+	}
+	
+	/**
+	 * Builds the MoveResult view of an outcome
+	 * @param outcome a packed outcome
+	 * @param spec the board the move was made on
+	 * @return the move result, null for NONE
+	 */
+	public static MoveResult toMoveResult(long outcome, BoardSpec spec) {
+		if (outcome == NONE) {
+			return null;
+		}
+		final Piece winner = winnerOf(outcome);
+		final PieceLocationDescriptor battleWinner = winner == null ? null 
+				: new PieceLocationDescriptor(winner, spec.getLocation(winnerCellOf(outcome)));
+		return new MoveResult(statusOf(outcome), battleWinner);
+	}
+}
@@ -0,0 +1,50 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+/**
+ * The outcome of validating a move request. Every reason a move can be rejected
+ * has its own value, carrying the message move() puts in its StrategyException,
+ * so clients can be told why a move was refused without an exception being thrown.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public enum MoveValidation {
+	OK(null),
+	GAME_OVER("The game is over, you cannot make a move"),
+	GAME_NOT_STARTED("You must start the game!"),
+	FLAG_MOVED("You cannot move the flag"),
+	BOMB_MOVED("You cannot move the bomb"),
+	CHOKE_POINT_MOVED("You cannot move the choke point"),
+	NOT_ON_BOARD("Coordinates not on board"),
+	PIECE_NOT_AT_LOCATION("Specified piece is not located at given location"),
+	BLUE_MOVED_FIRST("Blue cannot start the game"),
+	SAME_PLAYER_TWICE("Same player cannot move twice in a row"),
+	OWN_PIECE_AT_DESTINATION("Cannot move to a space with your own piece on it already"),
+	NOT_IN_LINE("Coordinates are not on same row or column"),
+	TOO_FAR("Locations are too far apart"),
+	SCOUT_ATTACK_FROM_DISTANCE("Cannot attack when moving scout more than 1 space"),
+	SCOUT_PATH_BLOCKED("Not all spaces clear between movement locations for Scout"),
+	FIRST_LT_MOVE_TWO_SPACES("1ST LT cannot move 2 spaces if not attacking"),
+	FIRST_LT_PATH_BLOCKED("Piece in the way of attack"),
+	FIRST_LT_TOO_FAR("Cannot move more than 2 spaces"),
+	CHOKE_POINT_DESTINATION("Cannot Move to a Choke Point");
+	
+	private final String message;
+	
+	/**
+	 * @param message the message used when the move is rejected, null if it is not
+	 */
+	private MoveValidation(String message) {
+		this.message = message;
+	}
+	
+	/**
+	 * @return the message describing why the move was rejected
+	 */
+	public String getMessage() {
+		return message;
+	}
+}
@@ -0,0 +1,166 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Location;
+import strategy.game.common.Piece;
+
+/**
+ * What one player can see of a game: their own pieces, the choke points, and
+ * the owner of every enemy piece, but the type of an enemy piece only once a
+ * battle or a long move has revealed it. Anything else is an unknown enemy.
+ * 
+ * A view is only a window onto the game. It reads the controller's cells and
+ * the knowledge bits kept up to date by every move and battle, so it always
+ * shows the current position and every query takes constant time.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class PlayerView {
+	
+	// unknown pieces are dealt out by copyGame() with bombs and flags first
+	private static final Comparator<Piece> DEAL_ORDER = Comparator
+			.comparing((Piece piece) -> StrategyGameControllerImpl.isMovable(piece.getType()))
+			.thenComparing(Piece::getCode);
+	
+	private final StrategyGameControllerImpl game;
+	private final PlayerColor viewer;
+	
+	/**
+	 * Constructor for PlayerView
+	 * @param game the game to look at
+	 * @param viewer the player looking
+	 */
+	public PlayerView(StrategyGameControllerImpl game, PlayerColor viewer) {
+		this.game = game;
+		this.viewer = viewer;
+	}
+	
+	/**
+	 * @return the player looking
+	 */
+	public PlayerColor getViewer() {
+		return viewer;
+	}
+	
+	/**
+	 * @return the spaces of the board
+	 */
+	public BoardSpec getBoardSpec() {
+		return game.getBoardSpec();
+	}
+	
+	/**
+	 * @return the color of the player who moves next, or null if the game is not in progress
+	 */
+	public PlayerColor getPlayerToMove() {
+		return game.getPlayerToMove();
+	}
+	
+	/**
+	 * @param index the cell index to look at
+	 * @return true if the cell holds an enemy piece whose type the viewer does not know
+	 */
+	public boolean isUnknownEnemy(int index) {
+		final Piece piece = game.getPieceAt(index);
+		return piece != null && piece.getOwner() != null && piece.getOwner() != viewer
+				&& (game.getKnowledge(index) & StrategyGameControllerImpl.KNOWN_REVEALED) == 0;
+	}
+	
+	/**
+	 * @param index the cell index to look at
+	 * @return the piece on the cell, or null if the cell is empty or holds an unknown enemy
+	 */
+	public Piece getPieceAt(int index) {
+		return isUnknownEnemy(index) ? null : game.getPieceAt(index);
+	}
+	
+	/**
+	 * @param location the location to look at
+	 * @return the piece at the location, or null if it is empty or holds an unknown enemy
+	 */
+	public Piece getPieceAt(Location location) {
+		final int index = game.board.indexOf(location);
+		return index < 0 ? null : getPieceAt(index);
+	}
+	
+	/**
+	 * @param index the cell index to look at
+	 * @return the owner of the piece on the cell, which is never hidden,
+	 * 			or null for an empty cell or a choke point
+	 */
+	public PlayerColor getOwnerAt(int index) {
+		final Piece piece = game.getPieceAt(index);
+		return piece == null ? null : piece.getOwner();
+	}
+	
+	/**
+	 * @param index the cell index to look at
+	 * @return true if the piece on the cell has moved, so it is neither a bomb nor a flag
+	 */
+	public boolean hasMoved(int index) {
+		return (game.getKnowledge(index) & StrategyGameControllerImpl.KNOWN_MOVED) != 0;
+	}
+	
+	/**
+	 * @param color a player
+	 * @return the number of pieces the player has on the board, which both players can count
+	 */
+	public int getPieceCount(PlayerColor color) {
+		return game.getPieceCount(color);
+	}
+	
+	/**
+	 * Lists the viewer's legal moves, which only depend on what the viewer can see
+	 * @param moves the buffer to fill, cleared first
+	 * @return the number of legal moves
+	 */
+	public int generateLegalMoves(MoveBuffer moves) {
+		return game.generateLegalMoves(viewer, moves);
+	}
+	
+	/**
+	 * Copies the game with every unknown enemy piece put back on the board in
+	 * a fixed order, bombs and flags first on the cells that never moved. The
+	 * copy tells the viewer nothing the view does not, except which pieces the
+	 * opponent left out where a version lets setups leave some out. A player
+	 * who wants to search ahead can deal the unknown pieces out again on the
+	 * copy. Only moves made on the copy may be taken back on it.
+	 * @return a copy of the game as the viewer could have worked it out
+	 */
+	public StrategyGameControllerImpl copyGame() {
+		final StrategyGameControllerImpl copy = game.copy();
+		final int numSpaces = game.getBoardSpec().getNumSpaces();
+		
+		int numUnknown = 0;
+		for (int i = 0; i < numSpaces; i++) {
+			if (isUnknownEnemy(i)) {
+				numUnknown++;
+			}
+		}
+		
+		final int[] cells = new int[numUnknown];
+		final Piece[] pieces = new Piece[numUnknown];
+		int next = 0;
+		for (boolean moved : new boolean[] {false, true}) {
+			for (int i = 0; i < numSpaces; i++) {
+				if (isUnknownEnemy(i) && hasMoved(i) == moved) {
+					pieces[next] = game.getPieceAt(i);
+					cells[next++] = i;
+				}
+			}
+		}
+		
+		Arrays.sort(pieces, DEAL_ORDER);
+		for (int i = 0; i < numUnknown; i++) {
+			copy.replacePiece(cells[i], pieces[i]);
+		}
+		return copy;
+	}
+}
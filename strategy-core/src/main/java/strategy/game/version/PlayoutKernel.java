@@ -0,0 +1,86 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.MoveResultStatus;
+
+/**
+ * Plays random games to the end as fast as the rules allow. A playout works
+ * directly on the game's cell array and piece lists through the same battle 
+ * and movement rules as move(), but skips checking the moves it generated 
+ * itself and keeps nothing to take them back. Nothing is allocated per move,
+ * so with the same seed a playout makes exactly the moves move() would be
+ * asked to make with the same choices, and ends the same way.
+ * 
+ * To play many games from one position, keep a copy() of it and go back with
+ * copyFrom() before each playout.
+ * 
+ * A kernel keeps its move buffer and random generator, and must only be used
+ * by one thread at a time.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class PlayoutKernel {
+	
+	private final MoveBuffer moves = new MoveBuffer();
+	private final XorShiftRandom random;
+	private int length;
+	
+	/**
+	 * Constructor for PlayoutKernel
+	 * @param seed the seed of the random moves
+	 */
+	public PlayoutKernel(long seed) {
+		random = new XorShiftRandom(seed);
+	}
+	
+	/**
+	 * @return the generator that picks the moves, which callers may share for other choices
+	 */
+	public XorShiftRandom getRandom() {
+		return random;
+	}
+	
+	/**
+	 * @return the number of moves made by the last playout
+	 */
+	public int getLength() {
+		return length;
+	}
+	
+	/**
+	 * Plays random legal moves until the game ends or the move limit is reached.
+	 * Every move is chosen uniformly from generateLegalMoves() of the player to move.
+	 * @param game the game to play on, left in the final position
+	 * @param maxMoves the number of moves to make at most
+	 * @return the status after the last move: OK if the limit was reached first,
+	 * 			otherwise who won. A player who cannot move loses.
+	 */
+	public MoveResultStatus playout(StrategyGameControllerImpl game, int maxMoves) {
+		PlayerColor color = game.getPlayerToMove();
+		length = 0;
+		if (color == null) {
+			final long outcome = game.getLastOutcome();
+			return outcome == MoveOutcome.NONE ? MoveResultStatus.OK : MoveOutcome.statusOf(outcome);
+		}
+		
+		while (length < maxMoves) {
+			final int numMoves = game.generateLegalMoves(color, moves);
+			if (numMoves == 0) {
+				return color == PlayerColor.RED ? MoveResultStatus.BLUE_WINS : MoveResultStatus.RED_WINS;
+			}
+			
+			final MoveResultStatus status = MoveOutcome.statusOf(
+					game.playLegalMove(moves.get(random.nextInt(numMoves))));
+			length++;
+			if (status != MoveResultStatus.OK) {
+				return status;
+			}
+			color = color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+		}
+		return MoveResultStatus.OK;
+	}
+}
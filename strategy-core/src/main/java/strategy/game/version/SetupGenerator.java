@@ -0,0 +1,126 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import java.util.Collection;
+import java.util.Random;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+
+/**
+ * Produces random starting configurations that a SetupValidator accepts,
+ * without generating and rejecting candidates. Every setup starts from the
+ * largest allowed count of every type. When the counts add up to more pieces
+ * than the setup area holds (Epsilon's two flag rule) the pieces to leave out
+ * are drawn at random from the types that allow it, and the remaining pieces
+ * are shuffled over the setup area.
+ * 
+ * Setups are written in the packed form of SetupValidator, so generating one
+ * does not allocate. The generator keeps no state between calls and can be
+ * shared between threads, each with its own Random. The same seed always gives
+ * the same setups.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public final class SetupGenerator {
+	
+	private final SetupValidator validator;
+	// every piece of a full set, the pieces that are always used first
+	private final byte[] pieces;
+	private final int numExact;
+	
+	/**
+	 * Creates a generator for the setups of a version
+	 * @param validator the validator of the version, which gives the piece counts and the board
+	 */
+	public SetupGenerator(SetupValidator validator) {
+		this.validator = validator;
+		
+		int numPieces = 0;
+		int exact = 0;
+		for (PieceType type : PieceType.values()) {
+			numPieces += validator.getMaxCount(type);
+			if (validator.getMinCount(type) == validator.getMaxCount(type)) {
+				exact += validator.getMaxCount(type);
+			}
+		}
+		
+		pieces = new byte[numPieces];
+		numExact = exact;
+		int exactEnd = 0;
+		int flexibleEnd = exact;
+		for (PieceType type : PieceType.values()) {
+			final boolean isExact = validator.getMinCount(type) == validator.getMaxCount(type);
+			for (int n = 0; n < validator.getMaxCount(type); n++) {
+				pieces[isExact ? exactEnd++ : flexibleEnd++] = (byte) type.ordinal();
+			}
+		}
+	}
+	
+	/**
+	 * @return the validator that accepts every generated setup
+	 */
+	public SetupValidator getValidator() {
+		return validator;
+	}
+	
+	/**
+	 * Writes a random packed setup
+	 * @param random the source of randomness
+	 * @param setups the array receiving the setup
+	 * @param offset the index of the first byte to write, the setup takes
+	 * 			getValidator().getNumPieces() bytes
+	 */
+	public void next(Random random, byte[] setups, int offset) {
+		final int numPieces = validator.getNumPieces();
+		final int numChosen = numPieces - numExact;
+		
+		// pieces every setup has
+		System.arraycopy(pieces, 0, setups, offset, numExact);
+		
+		// reservoir sample the other pieces, so every way of leaving pieces out is equally likely
+		System.arraycopy(pieces, numExact, setups, offset + numExact, numChosen);
+		for (int i = numChosen; i < pieces.length - numExact; i++) {
+			final int slot = random.nextInt(i + 1);
+			if (slot < numChosen) {
+				setups[offset + numExact + slot] = pieces[numExact + i];
+			}
+		}
+		
+		// Fisher-Yates shuffle over the setup area
+		for (int i = numPieces - 1; i > 0; i--) {
+			final int j = offset + random.nextInt(i + 1);
+			final byte piece = setups[offset + i];
+			setups[offset + i] = setups[j];
+			setups[j] = piece;
+		}
+	}
+	
+	/**
+	 * Writes random packed setups one after another
+	 * @param random the source of randomness
+	 * @param setups the array receiving the setups
+	 * @param numSetups the number of setups to write, starting at index 0
+	 */
+	public void nextBatch(Random random, byte[] setups, int numSetups) {
+		final int numPieces = validator.getNumPieces();
+		for (int i = 0; i < numSetups; i++) {
+			next(random, setups, i * numPieces);
+		}
+	}
+	
+	/**
+	 * @param random the source of randomness
+	 * @param color the player the setup is for
+	 * @return a random starting configuration for the given player
+	 */
+	public Collection<PieceLocationDescriptor> nextSetup(Random random, PlayerColor color) {
+		final byte[] setup = new byte[validator.getNumPieces()];
+		next(random, setup, 0);
+		return validator.unpack(setup, 0, color);
+	}
+}
@@ -0,0 +1,276 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+
+/**
+ * Checks starting configurations against the rules of a version without
+ * creating a game. A configuration is valid when it has exactly the number of
+ * pieces the board needs, every piece belongs to the same player, the number
+ * of pieces of every type is within the version's limits and the pieces cover
+ * the player's setup area with one piece per space.
+ * 
+ * Piece counts are kept in an int array indexed by PieceType ordinal and the
+ * spaces already taken in a 128 bit set held in two longs, so checking a
+ * configuration does not hash or box anything.
+ * 
+ * Besides collections of PieceLocationDescriptor the validator understands
+ * packed setups: getNumPieces() bytes, one per space of the setup area in
+ * cell order, each holding the PieceType ordinal of the piece on that space.
+ * A packed setup always covers its area exactly, so only its piece counts have
+ * to be checked, and validateBatch checks many of them in one call.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public final class SetupValidator {
+	
+	private static final PieceType[] TYPES = PieceType.values();
+	
+	private final BoardSpec spec;
+	private final int[] minCounts = new int[TYPES.length];
+	private final int[] maxCounts = new int[TYPES.length];
+	
+	/**
+	 * Creates a validator for setups that have exactly the given number of
+	 * pieces of every type
+	 * @param spec the board the setups are for
+	 * @param pieceCounts number of pieces of every type, types not in the map may not be used
+	 */
+	public SetupValidator(BoardSpec spec, Map<PieceType, Integer> pieceCounts) {
+		this(spec, pieceCounts, pieceCounts.keySet());
+	}
+	
+	/**
+	 * Creates a validator for setups that may leave out some of the given pieces.
+	 * The given counts may add up to more pieces than the board needs, and the
+	 * difference can be left out of any type that is not one of exactTypes.
+	 * @param spec the board the setups are for
+	 * @param pieceCounts largest number of pieces of every type, types not in the map may not be used
+	 * @param exactTypes the types that always need their full count
+	 */
+	public SetupValidator(BoardSpec spec, Map<PieceType, Integer> pieceCounts, Set<PieceType> exactTypes) {
+		this.spec = spec;
+		
+		int total = 0;
+		for (Map.Entry<PieceType, Integer> count : pieceCounts.entrySet()) {
+			maxCounts[count.getKey().ordinal()] = count.getValue();
+			total += count.getValue();
+		}
+		
+		final int numLeftOut = total - spec.getNumPieces();
+		if (numLeftOut < 0 || (numLeftOut > 0 && exactTypes.containsAll(pieceCounts.keySet()))) {
+			throw new IllegalArgumentException("Piece counts do not fill the setup area");
+		}
+		
+		for (PieceType type : TYPES) {
+			minCounts[type.ordinal()] = exactTypes.contains(type) ? maxCounts[type.ordinal()]
+					: Math.max(0, maxCounts[type.ordinal()] - numLeftOut);
+		}
+	}
+	
+	/**
+	 * @return the board the setups are for
+	 */
+	public BoardSpec getBoardSpec() {
+		return spec;
+	}
+	
+	/**
+	 * @return the number of pieces in a setup, which is also the size of a packed setup
+	 */
+	public int getNumPieces() {
+		return spec.getNumPieces();
+	}
+	
+	/**
+	 * @param type a piece type
+	 * @return the smallest number of pieces of the given type a valid setup has
+	 */
+	public int getMinCount(PieceType type) {
+		return minCounts[type.ordinal()];
+	}
+	
+	/**
+	 * @param type a piece type
+	 * @return the largest number of pieces of the given type a valid setup has
+	 */
+	public int getMaxCount(PieceType type) {
+		return maxCounts[type.ordinal()];
+	}
+	
+	/**
+	 * Validates a starting configuration
+	 * @param pieces the configuration to check
+	 * @throws StrategyException with the reason if the configuration is not valid
+	 */
+	public void validate(Collection<PieceLocationDescriptor> pieces) throws StrategyException {
+		if (pieces == null) {
+			throw new StrategyException("Given Null Configurations");
+		}
+		
+		if (pieces.size() != spec.getNumPieces()) {
+			throw new StrategyException("Invalid Number of Pieces");
+		}
+		
+		final Piece first = pieces.iterator().next().getPiece();
+		if (first == null || first.getOwner() == null) {
+			throw new StrategyException("Invalid Combination of Pieces");
+		}
+		
+		final int[] counts = new int[TYPES.length];
+		final PlayerColor color = first.getOwner();
+		final int start = spec.getSetupStart(color);
+		long takenLow = 0, takenHigh = 0;
+		boolean badPlacement = false;
+		
+		for (PieceLocationDescriptor piece : pieces) {
+			if (piece.getPiece() == null || piece.getPiece().getOwner() != color) {
+				throw new StrategyException("Invalid Combination of Pieces");
+			}
+			if (maxCounts[piece.getPiece().getType().ordinal()] == 0) {
+				throw new StrategyException("Invalid Piece");
+			}
+			counts[piece.getPiece().getType().ordinal()]++;
+			
+			final int cell = spec.indexOf(piece.getLocation());
+			if (cell < start || cell >= start + spec.getNumPieces()) {
+				badPlacement = true;
+			}
+			else if (cell < 64) {
+				badPlacement |= (takenLow & (1L << cell)) != 0;
+				takenLow |= 1L << cell;
+			}
+			else {
+				badPlacement |= (takenHigh & (1L << (cell - 64))) != 0;
+				takenHigh |= 1L << (cell - 64);
+			}
+		}
+		
+		if (!countsAreValid(counts)) {
+			throw new StrategyException("Invalid Combination of Pieces");
+		}
+		
+		// the size is right, so no space taken twice means every space is taken
+		if (badPlacement) {
+			throw new StrategyException("Invalid Placement of Pieces");
+		}
+	}
+	
+	/**
+	 * @param pieces the configuration to check
+	 * @return true if the configuration is valid
+	 */
+	public boolean isValid(Collection<PieceLocationDescriptor> pieces) {
+		try {
+			validate(pieces);
+			return true;
+		}
+		catch (StrategyException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * @param setups packed setups stored one after another
+	 * @param offset the index of the first byte of the setup to check
+	 * @return true if the packed setup is valid
+	 */
+	public boolean isValid(byte[] setups, int offset) {
+		return isValid(setups, offset, new int[TYPES.length]);
+	}
+	
+	/**
+	 * Validates packed setups stored one after another
+	 * @param setups the packed setups
+	 * @param numSetups the number of setups to check, starting with the first
+	 * @param valid bit set receiving the results: bit i of valid[i / 64] is set
+	 * 			if setup i is valid and cleared if it is not
+	 * @return the number of valid setups
+	 */
+	public int validateBatch(byte[] setups, int numSetups, long[] valid) {
+		final int[] counts = new int[TYPES.length];
+		final int numPieces = spec.getNumPieces();
+		int numValid = 0;
+		
+		for (int i = 0; i < numSetups; i++) {
+			final long bit = 1L << (i & 63);
+			if (isValid(setups, i * numPieces, counts)) {
+				valid[i >>> 6] |= bit;
+				numValid++;
+			}
+			else {
+				valid[i >>> 6] &= ~bit;
+			}
+		}
+		return numValid;
+	}
+	
+	/**
+	 * Packs a starting configuration, which is assumed to be valid
+	 * @param pieces the configuration to pack
+	 * @param setups the array receiving the packed setup
+	 * @param offset the index of the first byte to write
+	 */
+	public void pack(Collection<PieceLocationDescriptor> pieces, byte[] setups, int offset) {
+		final PlayerColor color = pieces.iterator().next().getPiece().getOwner();
+		final int start = spec.getSetupStart(color);
+		for (PieceLocationDescriptor piece : pieces) {
+			setups[offset + spec.indexOf(piece.getLocation()) - start] = (byte) piece.getPiece().getType().ordinal();
+		}
+	}
+	
+	/**
+	 * Unpacks a packed setup
+	 * @param setups packed setups stored one after another
+	 * @param offset the index of the first byte of the setup to unpack
+	 * @param color the player the setup is for
+	 * @return the starting configuration of the packed setup
+	 */
+	public Collection<PieceLocationDescriptor> unpack(byte[] setups, int offset, PlayerColor color) {
+		final int numPieces = spec.getNumPieces();
+		final int start = spec.getSetupStart(color);
+		final Collection<PieceLocationDescriptor> pieces = new ArrayList<PieceLocationDescriptor>(numPieces);
+		for (int i = 0; i < numPieces; i++) {
+			pieces.add(new PieceLocationDescriptor(Piece.of(TYPES[setups[offset + i]], color), 
+					spec.getLocation(start + i)));
+		}
+		return pieces;
+	}
+	
+	private boolean isValid(byte[] setups, int offset, int[] counts) {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = 0;
+		}
+		
+		final int end = offset + spec.getNumPieces();
+		for (int i = offset; i < end; i++) {
+			final int type = setups[i];
+			if (type < 0 || type >= counts.length) {
+				return false;
+			}
+			counts[type]++;
+		}
+		return countsAreValid(counts);
+	}
+	
+	private boolean countsAreValid(int[] counts) {
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] < minCounts[i] || counts[i] > maxCounts[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,1045 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.IntConsumer;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.common.StrategyRuntimeException;
+import strategy.game.StrategyGameController;
+import strategy.game.common.Location;
+import strategy.game.common.MoveResult;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+
+
+/**
+ * @author Alex C
+ * @version September 14, 2013
+ */
+public abstract class StrategyGameControllerImpl implements StrategyGameController, Cloneable {
+	
+	protected boolean gameStarted;
+	protected boolean gameOver;
+	protected PlayerColor lastPlayerColor;
+	protected Collection<PieceLocationDescriptor> redSetup, blueSetup;
+	protected BitboardBoard board;
+	protected Piece lastRedPiece, lastBluePiece;
+	protected int lastRedFrom, lastBlueFrom;
+	// the cell each player's last move went to, -1 if the player has not moved
+	protected int lastRedTo, lastBlueTo;
+	protected boolean redRepetitionFlag, blueRepetitionFlag;
+	protected int numMoves;
+	// result of the last move, packed by MoveOutcome
+	private long lastOutcome = MoveOutcome.NONE;
+	// MoveResult view of lastOutcome, only built when someone asks for it
+	private MoveResult lastMoveResult;
+	// Zobrist hash of the pieces on the board, kept up to date by setPieceAt
+	private long boardHash;
+	
+	protected final BoardSpec spec;
+	
+	/** what the players know about a piece: it has moved, so it is neither a bomb nor a flag */
+	public static final int KNOWN_MOVED = 1;
+	/** what the players know about a piece: its type, shown by a battle or a move of more than one space */
+	public static final int KNOWN_REVEALED = 2;
+	
+	protected static final Piece CHOKE_POINT = Piece.of(PieceType.CHOKE_POINT, null);
+	
+	// layout of an undo record pushed by makeMove
+	private static final int UNDO_FROM = 0;
+	private static final int UNDO_TO = 1;
+	private static final int UNDO_FROM_PIECE = 2;
+	private static final int UNDO_TO_PIECE = 3;
+	private static final int UNDO_LAST_RED = 4;
+	private static final int UNDO_LAST_BLUE = 5;
+	private static final int UNDO_LAST_RED_TO = 6;
+	private static final int UNDO_LAST_BLUE_TO = 7;
+	private static final int UNDO_FLAGS = 8;
+	private static final int UNDO_VARIANT_STATE = 9;
+	private static final int UNDO_RECORD_SIZE = 10;
+	
+	private int[] undoStack = new int[UNDO_RECORD_SIZE * 64];
+	private int undoSize = 0;
+	
+	// [cell] KNOWN_* bits of the piece on each cell, both players know the same
+	private byte[] knowledge;
+	
+	// told about every change to the board, null if nobody is listening
+	private BoardListener listener;
+
+	/**
+	 * constructor for creating a strategy game
+	 * @param spec the board specification of the version being created
+	 * @param redPieces collection of red pieces and locations
+	 * @param bluePieces collection of blue pieces and locations
+	 * @throws StrategyException
+	 */
+	protected StrategyGameControllerImpl(BoardSpec spec, Collection<PieceLocationDescriptor> redPieces, 
+			Collection<PieceLocationDescriptor> bluePieces) throws StrategyException {
+		this.spec = spec;
+		board = new BitboardBoard(spec.getWidth(), spec.getHeight());
+		knowledge = new byte[spec.getNumSpaces()];
+		setVariables(redPieces, bluePieces);
+		validatePiecesAndLocations(redPieces);
+		validatePiecesAndLocations(bluePieces);
+		initializeBoard();
+	}
+	
+	/**
+	 * Sets necessary variables for the given type of game being created
+	 * @param redPieces collection of red pieces
+	 * @param bluePieces collection of blue pieces
+	 */
+	protected abstract void setVariables(Collection<PieceLocationDescriptor> redPieces, 
+			Collection<PieceLocationDescriptor> bluePieces);
+	
+	/**
+	 * Validates that the collection given only contains 
+	 * piece/location combinations that are ok for type of game created
+	 * @param pieces the collection of pieces to validate
+	 * @throws StrategyException thrown if the collection is deemed invalid
+	 */
+	protected abstract void validatePiecesAndLocations(Collection<PieceLocationDescriptor> pieces) throws StrategyException;
+	
+	/*
+	 * @see strategy.game.StrategyGameController#startGame()
+	 */
+	public void startGame() throws StrategyException {
+		if(gameStarted) {
+			throw new StrategyException("Game Already In Progress, Make a New Game");
+		}
+		gameStarted = true;
+		gameOver = false;
+		lastPlayerColor = null;
+	}
+	
+	/**
+	 * Initializes the board to contain all the spaces of the board
+	 * Adds the validated red and blue pieces to the board
+	 * Additionally, adds choke points to the board
+	 */
+	protected void initializeBoard() 
+	{
+		final Iterator<PieceLocationDescriptor> redIter, blueIter;
+		redIter = redSetup.iterator();
+		blueIter = blueSetup.iterator();
+		
+		// start from an empty board
+		clearBoard();
+				
+		PieceLocationDescriptor singleRedPiece, singleBluePiece;
+		
+		while (redIter.hasNext()) {
+			singleRedPiece = redIter.next();
+			singleBluePiece = blueIter.next();
+					
+			// fill board with pieces
+			setPieceAt(singleRedPiece.getLocation(), singleRedPiece.getPiece());
+			setPieceAt(singleBluePiece.getLocation(), singleBluePiece.getPiece());
+		}
+		
+		// set choke pieces
+		for (Location chokeLoc : spec.getChokePointLocations()) {
+			setPieceAt(chokeLoc, CHOKE_POINT);
+		}
+	}
+	
+	/*
+	 * @see strategy.game.StrategyGameController#move()
+	 */
+	public MoveResult move(PieceType piece, Location from, Location to)
+			throws StrategyException {
+		
+		final MoveValidation validation = tryMove(piece, from, to);
+		
+		if (validation != MoveValidation.OK) {
+			throw new StrategyException(validation.getMessage());
+		}
+		
+		return getLastMoveResult();
+	}
+	
+	/**
+	 * Makes a move if it is valid. Unlike move(), an invalid move is reported by
+	 * the returned value instead of an exception, which keeps rejecting moves cheap.
+	 * The result of a valid move is available from getLastOutcome(), or as a 
+	 * MoveResult from getLastMoveResult().
+	 * @param piece the piece type that is being moved
+	 * @param from the location where the piece begins
+	 * @param to the location where the piece is after the move has been made
+	 * @return MoveValidation.OK if the move was made, otherwise the reason it was rejected
+	 */
+	public MoveValidation tryMove(PieceType piece, Location from, Location to) {
+		final int fromIndex = board.indexOf(from);
+		final int toIndex = board.indexOf(to);
+		
+		final MoveValidation validation = validateMove(piece, fromIndex, toIndex);
+		
+		if (validation == MoveValidation.OK) {
+			setLastOutcome(makeValidatedMove(fromIndex, toIndex));
+		}
+		
+		return validation;
+	}
+	
+	/**
+	 * @return the result of the last move that was made, packed by MoveOutcome,
+	 * or MoveOutcome.NONE if there is none
+	 */
+	public long getLastOutcome() {
+		return lastOutcome;
+	}
+	
+	/**
+	 * Builds the MoveResult of the last move the first time it is asked for. 
+	 * Callers that only need the status should use getLastOutcome(), which
+	 * does not allocate.
+	 * @return the result of the last move that was made
+	 */
+	public MoveResult getLastMoveResult() {
+		if (lastMoveResult == null) {
+			lastMoveResult = MoveOutcome.toMoveResult(lastOutcome, spec);
+		}
+		return lastMoveResult;
+	}
+	
+	/**
+	 * @param outcome the packed result of the move just made
+	 */
+	protected void setLastOutcome(long outcome) {
+		lastOutcome = outcome;
+		lastMoveResult = null;
+	}
+	
+	/**
+	 * Makes a move given as a packed move from a MoveBuffer and remembers how to
+	 * take it back with unmakeMove(). This is meant for searching ahead, so unlike
+	 * move() it does not notify anyone of the move.
+	 * @param move the packed move
+	 * @return MoveValidation.OK if the move was made, otherwise the reason it was rejected
+	 */
+	public MoveValidation makeMove(int move) {
+		final int numSpaces = spec.getNumSpaces();
+		final int from = MoveBuffer.fromOf(move);
+		final int to = MoveBuffer.toOf(move);
+		
+		if (from >= numSpaces || to >= numSpaces) {
+			return MoveValidation.NOT_ON_BOARD;
+		}
+		
+		final Piece piece = board.getPieceAt(from);
+		final MoveValidation validation = validateMove(piece == null ? null : piece.getType(), from, to);
+		
+		if (validation == MoveValidation.OK) {
+			pushUndoRecord(from, to);
+			setLastOutcome(makeValidatedMove(from, to));
+		}
+		
+		return validation;
+	}
+	
+	/**
+	 * Makes a move straight from generateLegalMoves() without checking it again
+	 * and without saving anything to take it back, for playouts
+	 * @param move a packed move that is legal in the current position
+	 * @return the result of the move, packed by MoveOutcome
+	 */
+	long playLegalMove(int move) {
+		setLastOutcome(makeValidatedMove(MoveBuffer.fromOf(move), MoveBuffer.toOf(move)));
+		return lastOutcome;
+	}
+	
+	/**
+	 * Takes back the last move made with makeMove(), restoring the game to exactly 
+	 * the state it was in before that move
+	 */
+	public void unmakeMove() {
+		if (undoSize == 0) {
+			throw new StrategyRuntimeException("There is no move to take back");
+		}
+		
+		undoSize -= UNDO_RECORD_SIZE;
+		final int[] record = undoStack;
+		final int base = undoSize;
+		
+		setPieceAt(record[base + UNDO_FROM], ArrayBoard.pieceOf((byte) record[base + UNDO_FROM_PIECE]));
+		setPieceAt(record[base + UNDO_TO], ArrayBoard.pieceOf((byte) record[base + UNDO_TO_PIECE]));
+		knowledge[record[base + UNDO_FROM]] = (byte) (record[base + UNDO_FROM_PIECE] >> 8);
+		knowledge[record[base + UNDO_TO]] = (byte) (record[base + UNDO_TO_PIECE] >> 8);
+		
+		lastRedPiece = ArrayBoard.pieceOf((byte) (record[base + UNDO_LAST_RED] & 0xFF));
+		lastRedFrom = (record[base + UNDO_LAST_RED] >> 8);
+		lastBluePiece = ArrayBoard.pieceOf((byte) (record[base + UNDO_LAST_BLUE] & 0xFF));
+		lastBlueFrom = (record[base + UNDO_LAST_BLUE] >> 8);
+		lastRedTo = record[base + UNDO_LAST_RED_TO];
+		lastBlueTo = record[base + UNDO_LAST_BLUE_TO];
+		
+		final int flags = record[base + UNDO_FLAGS];
+		redRepetitionFlag = (flags & 1) != 0;
+		blueRepetitionFlag = (flags & 2) != 0;
+		gameOver = (flags & 4) != 0;
+		lastPlayerColor = (flags & 8) != 0 ? PlayerColor.RED : (flags & 16) != 0 ? PlayerColor.BLUE : null;
+		
+		restoreVariantState(record[base + UNDO_VARIANT_STATE]);
+		setLastOutcome(MoveOutcome.NONE);
+	}
+	
+	/**
+	 * @return the number of moves made with makeMove() that can still be taken back
+	 */
+	public int getUndoDepth() {
+		return undoSize / UNDO_RECORD_SIZE;
+	}
+	
+	/**
+	 * Saves everything a move can change, so unmakeMove() can restore it
+	 * @param from cell index of the piece to be moved
+	 * @param to cell index to move the given piece to
+	 */
+	private void pushUndoRecord(int from, int to) {
+		if (undoSize + UNDO_RECORD_SIZE > undoStack.length) {
+			final int[] grown = new int[undoStack.length * 2];
+			System.arraycopy(undoStack, 0, grown, 0, undoSize);
+			undoStack = grown;
+		}
+		
+		final int[] record = undoStack;
+		final int base = undoSize;
+		
+		// a move only ever changes the two cells it involves
+		record[base + UNDO_FROM] = from;
+		record[base + UNDO_TO] = to;
+		record[base + UNDO_FROM_PIECE] = ArrayBoard.codeOf(board.getPieceAt(from)) | (knowledge[from] << 8);
+		record[base + UNDO_TO_PIECE] = ArrayBoard.codeOf(board.getPieceAt(to)) | (knowledge[to] << 8);
+		record[base + UNDO_LAST_RED] = ArrayBoard.codeOf(lastRedPiece) | (lastRedFrom << 8);
+		record[base + UNDO_LAST_BLUE] = ArrayBoard.codeOf(lastBluePiece) | (lastBlueFrom << 8);
+		record[base + UNDO_LAST_RED_TO] = lastRedTo;
+		record[base + UNDO_LAST_BLUE_TO] = lastBlueTo;
+		record[base + UNDO_FLAGS] = (redRepetitionFlag ? 1 : 0) | (blueRepetitionFlag ? 2 : 0) 
+				| (gameOver ? 4 : 0) | (lastPlayerColor == PlayerColor.RED ? 8 : 0) 
+				| (lastPlayerColor == PlayerColor.BLUE ? 16 : 0);
+		record[base + UNDO_VARIANT_STATE] = saveVariantState();
+		
+		undoSize += UNDO_RECORD_SIZE;
+	}
+	
+	/**
+	 * Versions that keep extra game state override this (and restoreVariantState)
+	 * so that moves made with makeMove() can be taken back
+	 * @return the version specific state packed into an int
+	 */
+	protected int saveVariantState() {
+		return 0;
+	}
+	
+	/**
+	 * Restores the version specific state saved by saveVariantState()
+	 * @param state the packed state
+	 */
+	protected void restoreVariantState(int state) {
+		// no version specific state by default
+	}
+	
+	/**
+	 * Checks every rule a move request has to follow, without changing the game
+	 * @param piece piece to be moved
+	 * @param from cell index of the piece to be moved, -1 if not on the board
+	 * @param to cell index to move the given piece to, -1 if not on the board
+	 * @return MoveValidation.OK if the move is valid, otherwise the first rule it breaks
+	 */
+	protected MoveValidation validateMove(PieceType piece, int from, int to) {
+		MoveValidation validation = checkValidMoveRequest(piece, from, to);
+		
+		if (validation == MoveValidation.OK) {
+			validation = checkLocations(from, to);
+		}
+		
+		// pieces are shared, so the choke point can be compared by reference
+		if (validation == MoveValidation.OK && board.getPieceAt(to) == CHOKE_POINT) {
+			validation = MoveValidation.CHOKE_POINT_DESTINATION;
+		}
+		
+		return validation;
+	}
+	
+	/**
+	 * Makes a move that has already been validated
+	 * @param from cell index of the piece to be moved
+	 * @param to cell index to move the given piece to
+	 * @return the result of the move, packed by MoveOutcome
+	 */
+	private long makeValidatedMove(int from, int to) {
+		long outcome;
+		final Piece fromPiece, toPiece;
+		fromPiece = board.getPieceAt(from);
+		toPiece = board.getPieceAt(to);
+		
+		outcome = checkRepetition(fromPiece, from, to);
+		
+		// if check repetition returned an outcome, then repetition rule is violated and 
+		// we return the outcome
+		if (outcome != MoveOutcome.NONE) {
+			return outcome;
+		}
+		
+		// if moving to an empty space
+		if (toPiece == null) {
+			setPieceAt(from, null);
+			setPieceAt(to, fromPiece);
+			outcome = MoveOutcome.encode(MoveResultStatus.OK, fromPiece, to);
+			
+			// only a scout can move more than one space without attacking
+			knowledge[to] = (byte) (knowledge[from] | KNOWN_MOVED 
+					| (distanceBetween(from, to) > 1 ? KNOWN_REVEALED : 0));
+			knowledge[from] = 0;
+		}
+		else {
+			outcome = battle(from, to);
+			revealBattle(fromPiece, from, to, outcome);
+		}
+		
+		lastPlayerColor = fromPiece.getOwner();
+		
+		outcome = checkMovablePieces(outcome);
+		 
+		// game over
+		if (MoveOutcome.statusOf(outcome) != MoveResultStatus.OK) {
+			gameOver = true;
+		}
+		
+		return outcome;
+	}
+	
+	/**
+	 * Checks if the given move request is a valid one
+	 * @param piece piece to be moved
+	 * @param from cell index of the piece to be moved, -1 if not on the board
+	 * @param to cell index to move the given piece to, -1 if not on the board
+	 * @return MoveValidation.OK if the request is valid, otherwise the rule it breaks
+	 */
+	private MoveValidation checkValidMoveRequest(PieceType piece, int from, int to) {
+		if (gameOver) {
+			return MoveValidation.GAME_OVER;
+		}
+		if (!gameStarted) {
+			return MoveValidation.GAME_NOT_STARTED;
+		}
+		if (piece == PieceType.FLAG) {
+			return MoveValidation.FLAG_MOVED;
+		}
+		if (piece == PieceType.BOMB) {
+			return MoveValidation.BOMB_MOVED;
+		}
+		if (piece == PieceType.CHOKE_POINT) {
+			return MoveValidation.CHOKE_POINT_MOVED;
+		}
+		if (from < 0 || to < 0) {
+			return MoveValidation.NOT_ON_BOARD;
+		}
+		
+		final Piece fromPiece, toPiece;
+		fromPiece = board.getPieceAt(from);
+		toPiece = board.getPieceAt(to);
+		
+		if (fromPiece == null || fromPiece.getType() != piece) {
+			return MoveValidation.PIECE_NOT_AT_LOCATION;
+		}
+		
+		// if last player color is not set, this is the first move
+		if (lastPlayerColor == null && fromPiece.getOwner() == PlayerColor.BLUE) {
+			// first move cannot come from blue
+			return MoveValidation.BLUE_MOVED_FIRST;
+		}
+		
+		if (lastPlayerColor == fromPiece.getOwner()) {
+			return MoveValidation.SAME_PLAYER_TWICE;
+		}
+		 
+		if (toPiece != null && fromPiece.getOwner() == toPiece.getOwner()) {
+			return MoveValidation.OWN_PIECE_AT_DESTINATION;
+		}
+		
+		return MoveValidation.OK;
+	}
+
+	/**
+	 * Determines if moving to the given to location is valid from the given from location
+	 * @param from cell index of the base location
+	 * @param to cell index of the location to go
+	 * @return MoveValidation.OK if the piece may move that far, otherwise the rule it breaks
+	 */
+	protected MoveValidation checkLocations(int from, int to) {
+		final int distance = distanceBetween(from, to);
+		
+		if (distance < 0) {
+			return MoveValidation.NOT_IN_LINE;
+		}
+		if (distance > 1) {
+			return MoveValidation.TOO_FAR;
+		}
+		return MoveValidation.OK;
+	}
+	
+	/**
+	 * Determines the number of spaces between two cells on the same row or column
+	 * @param from cell index of the base location
+	 * @param to cell index of the other location
+	 * @return the distance between the cells, or -1 if they are not on the same row or column
+	 */
+	protected int distanceBetween(int from, int to) {
+		final int width = spec.getWidth();
+		final int fromX = from % width, fromY = from / width;
+		final int toX = to % width, toY = to / width;
+		
+		if (fromX == toX) {
+			return Math.abs(fromY - toY);
+		}
+		if (fromY == toY) {
+			return Math.abs(fromX - toX);
+		}
+		return -1;
+	}
+	
+	/**
+	 * A battle shows both pieces to both players. Whatever version specific rule
+	 * decided the battle, at most one piece is left, on the winner cell.
+	 * @param attacker the piece that attacked
+	 * @param from cell index the attacker came from
+	 * @param to cell index of the piece attacked
+	 * @param outcome the result of the battle
+	 */
+	private void revealBattle(Piece attacker, int from, int to, long outcome) {
+		final Piece winner = MoveOutcome.winnerOf(outcome);
+		final int winnerKnowledge = winner == null ? 0 
+				: winner.getOwner() == attacker.getOwner() ? KNOWN_MOVED : knowledge[to];
+		knowledge[from] = 0;
+		knowledge[to] = 0;
+		if (winner != null) {
+			knowledge[MoveOutcome.winnerCellOf(outcome)] = (byte) (winnerKnowledge | KNOWN_REVEALED);
+		}
+	}
+	
+	/**
+	 * Handles battling and updates the board accordingly
+	 * @param from cell index of the piece being moved
+	 * @param to cell index of the piece being attacked
+	 * @return the result of the battle, packed by MoveOutcome
+	 */
+	protected long battle(int from, int to) {
+		final Piece fromPiece = board.getPieceAt(from);
+		final Piece toPiece = board.getPieceAt(to);
+		
+		final PlayerColor fromColor = fromPiece.getOwner();
+		
+		final int pieceComparison = fromPiece.getType().compareTo(toPiece.getType());
+		
+		// draw
+		if (pieceComparison == 0) {
+			setPieceAt(from, null);
+			setPieceAt(to, null);
+			return MoveOutcome.encode(MoveResultStatus.OK, null, -1);
+		}
+		
+		// if the piece being attacked is a flag, that player wins
+		if (toPiece.getType() == PieceType.FLAG) {
+			setPieceAt(from, null);
+			setPieceAt(to, fromPiece);
+					
+			if (fromColor == PlayerColor.BLUE) {
+				return MoveOutcome.encode(MoveResultStatus.BLUE_WINS, fromPiece, to);
+			}
+			return MoveOutcome.encode(MoveResultStatus.RED_WINS, fromPiece, to);
+		}
+		
+		// from Wins (general case)
+		if (pieceComparison < 0) {
+			setPieceAt(from, null);
+			setPieceAt(to, fromPiece);
+			
+			return MoveOutcome.encode(MoveResultStatus.OK, fromPiece, to);
+		}
+		// to Wins (general case)
+		setPieceAt(to, null);
+		setPieceAt(from, toPiece);
+		
+		return MoveOutcome.encode(MoveResultStatus.OK, toPiece, from);
+	}
+	
+	/**
+	 * Checks if the current piece + move will violate the move repetition rule
+	 * and remembers the move for the next check
+	 * @param fromPiece piece being moved
+	 * @param from cell index the piece is being moved from
+	 * @param to cell index the piece is being moved to
+	 * @return the outcome if the move results in a repetition violation and the other play wins
+	 * 		   otherwise returns MoveOutcome.NONE if move is valid
+	 */
+	private long checkRepetition(Piece fromPiece, int from, int to) {
+		if (violatesRepetition(fromPiece, to)) {
+			if (fromPiece.getOwner() == PlayerColor.RED) {
+				return MoveOutcome.encode(MoveResultStatus.BLUE_WINS, null, -1);
+			}
+			return MoveOutcome.encode(MoveResultStatus.RED_WINS, null, -1);
+		}
+		
+		// moving the same piece back to where it just came from sets the flag, 
+		// anything else resets it
+		if (fromPiece.getOwner() == PlayerColor.RED) {
+			redRepetitionFlag = fromPiece.equals(lastRedPiece) && lastRedFrom == to;
+			lastRedPiece = fromPiece;
+			lastRedFrom = from;
+			lastRedTo = to;
+		}
+		else {
+			blueRepetitionFlag = fromPiece.equals(lastBluePiece) && lastBlueFrom == to;
+			lastBluePiece = fromPiece;
+			lastBlueFrom = from;
+			lastBlueTo = to;
+		}
+		return MoveOutcome.NONE;
+	}
+	
+	/**
+	 * A player loses if the same piece moves back to where it just came from
+	 * when it has already done so on the player's previous move
+	 * @param piece piece being moved
+	 * @param to cell index the piece is being moved to
+	 * @return true if the move violates the move repetition rule
+	 */
+	protected boolean violatesRepetition(Piece piece, int to) {
+		if (piece.getOwner() == PlayerColor.RED) {
+			return redRepetitionFlag && piece.equals(lastRedPiece) && lastRedFrom == to;
+		}
+		return blueRepetitionFlag && piece.equals(lastBluePiece) && lastBlueFrom == to;
+	}
+	
+	/**
+	 * Checks to see if either player (or both) have no remaining movable pieces
+	 * @param outcome the packed outcome of a given move
+	 * @return an outcome corresponding to a winner or draw if either player, or both
+	 * 			don't have any movable pieces remaining. If both have movable pieces,
+	 * 			the given outcome is returned.
+	 */
+	private long checkMovablePieces(long outcome) {
+		final int numRedMovablePieces = getMovablePieceCount(PlayerColor.RED);
+		final int numBlueMovablePieces = getMovablePieceCount(PlayerColor.BLUE);
+		
+		if (numRedMovablePieces == 0 && numBlueMovablePieces == 0) {
+			return MoveOutcome.encode(MoveResultStatus.DRAW, null, -1);
+		}
+		else if (numRedMovablePieces == 0) {
+			return MoveOutcome.withStatus(outcome, MoveResultStatus.BLUE_WINS);
+		}
+		else if (numBlueMovablePieces == 0) {
+			return MoveOutcome.withStatus(outcome, MoveResultStatus.RED_WINS);
+		}
+		else {
+			return outcome;
+		}
+	}
+	
+	
+	/**
+	 * Fills the given buffer with every move the given player could make right now.
+	 * Every generated move is accepted by move(), and moves that would lose the
+	 * game under the move repetition rule are left out. If it is not the given
+	 * player's turn, or the game is not in progress, the buffer is left empty.
+	 * @param color the player to generate moves for
+	 * @param moves the buffer to fill, it is cleared first
+	 * @return the number of moves generated
+	 */
+	public int generateLegalMoves(PlayerColor color, MoveBuffer moves) {
+		moves.clear();
+		
+		if (!gameStarted || gameOver || lastPlayerColor == color
+				|| (lastPlayerColor == null && color == PlayerColor.BLUE)) {
+			return 0;
+		}
+		
+		final int numPieces = board.getPieceCount(color);
+		for (int i = 0; i < numPieces; i++) {
+			final int from = board.getPieceCell(color, i);
+			final Piece piece = board.getPieceAt(from);
+			
+			if (isMovable(piece.getType())) {
+				addPieceMoves(from, piece, moves);
+			}
+		}
+		
+		return moves.size();
+	}
+	
+	/**
+	 * Adds the moves for a single piece to the buffer. The default is one space
+	 * in any direction. Versions with special movement rules override this.
+	 * @param from cell index of the piece
+	 * @param piece the piece being moved
+	 * @param moves the buffer to add the moves to
+	 */
+	protected void addPieceMoves(int from, Piece piece, MoveBuffer moves) {
+		final int width = spec.getWidth();
+		final int x = from % width;
+		
+		if (x > 0) {
+			addStep(from, from - 1, piece, moves);
+		}
+		if (x < width - 1) {
+			addStep(from, from + 1, piece, moves);
+		}
+		if (from >= width) {
+			addStep(from, from - width, piece, moves);
+		}
+		if (from + width < spec.getNumSpaces()) {
+			addStep(from, from + width, piece, moves);
+		}
+	}
+	
+	/**
+	 * Adds the moves of a piece that may slide any number of empty spaces in a 
+	 * straight line, or attack an adjacent piece (scouts)
+	 * @param from cell index of the piece
+	 * @param piece the piece being moved
+	 * @param moves the buffer to add the moves to
+	 */
+	protected void addSlidingMoves(int from, Piece piece, MoveBuffer moves) {
+		final BitboardMasks masks = board.getMasks();
+		
+		for (int direction = BitboardMasks.WEST; direction <= BitboardMasks.NORTH; direction++) {
+			if (masks.isStepOnBoard(from, direction)) {
+				addRay(from, direction, from + masks.step(direction), piece, moves);
+			}
+		}
+	}
+	
+	/**
+	 * Adds the moves of a sliding piece in one direction
+	 * @param from cell index of the piece
+	 * @param direction one of the BitboardMasks directions
+	 * @param adjacent the cell index of the first space in this direction
+	 * @param piece the piece being moved
+	 * @param moves the buffer to add the moves to
+	 */
+	private void addRay(int from, int direction, int adjacent, Piece piece, MoveBuffer moves) {
+		// the adjacent space may be moved to or attacked
+		addStep(from, adjacent, piece, moves);
+		
+		// further spaces may only be moved to up to the first thing in the way
+		long low = board.emptyRayLow(from, direction);
+		long high = board.emptyRayHigh(from, direction);
+		if (adjacent < 64) {
+			low &= ~(1L << adjacent);
+		}
+		else {
+			high &= ~(1L << (adjacent - 64));
+		}
+		
+		while (low != 0) {
+			addMove(from, Long.numberOfTrailingZeros(low), piece, moves);
+			low &= low - 1;
+		}
+		while (high != 0) {
+			addMove(from, 64 + Long.numberOfTrailingZeros(high), piece, moves);
+			high &= high - 1;
+		}
+	}
+	
+	/**
+	 * Adds a one space move if the destination is empty or holds an opponent's piece
+	 * @param from cell index of the piece
+	 * @param to cell index of the destination
+	 * @param piece the piece being moved
+	 * @param moves the buffer to add the move to
+	 */
+	protected void addStep(int from, int to, Piece piece, MoveBuffer moves) {
+		if (board.isEmpty(to) || isOpponentAt(to, piece.getOwner())) {
+			addMove(from, to, piece, moves);
+		}
+	}
+	
+	/**
+	 * Adds a move unless making it would lose the game under the move repetition rule
+	 * @param from cell index of the piece
+	 * @param to cell index of the destination
+	 * @param piece the piece being moved
+	 * @param moves the buffer to add the move to
+	 */
+	protected void addMove(int from, int to, Piece piece, MoveBuffer moves) {
+		if (!violatesRepetition(piece, to)) {
+			moves.add(from, to);
+		}
+	}
+	
+	/**
+	 * @param index a cell index
+	 * @param color the player asking
+	 * @return true if the cell holds a piece of the other player
+	 */
+	protected boolean isOpponentAt(int index, PlayerColor color) {
+		final Piece piece = board.getPieceAt(index);
+		return piece != null && piece.getOwner() != null && piece.getOwner() != color;
+	}
+	
+	/**
+	 * @param type a piece type
+	 * @return true if pieces of the given type may ever move
+	 */
+	public static boolean isMovable(PieceType type) {
+		return type != PieceType.FLAG && type != PieceType.BOMB && type != PieceType.CHOKE_POINT;
+	}
+	
+	/**
+	 * @param color the owner of the pieces to count
+	 * @return the number of pieces of the given color still on the board
+	 */
+	public int getPieceCount(PlayerColor color) {
+		return board.getPieceCount(color);
+	}
+	
+	/**
+	 * @param color the owner of the pieces to count
+	 * @param type the type of the pieces to count
+	 * @return the number of pieces of the given color and type still on the board
+	 */
+	public int getPieceCount(PlayerColor color, PieceType type) {
+		return board.getPieceCount(color, type);
+	}
+	
+	/**
+	 * @param color the owner of the pieces to count
+	 * @return the number of pieces of the given color still on the board that
+	 * 			can move, i.e. everything but flags and bombs
+	 */
+	public int getMovablePieceCount(PlayerColor color) {
+		return board.getPieceCount(color) - board.getPieceCount(color, PieceType.FLAG)
+				- board.getPieceCount(color, PieceType.BOMB);
+	}
+	
+	/**
+	 * Passes the cell index of every piece of the given color still on the board
+	 * to the action, without walking the empty spaces. The order is not the cell
+	 * order. The action must not change the game.
+	 * @param color the owner of the pieces to visit
+	 * @param action the action to run for every cell holding one of the pieces
+	 */
+	public void forEachPiece(PlayerColor color, IntConsumer action) {
+		board.forEachPiece(color, action);
+	}
+	
+	/**
+	 * Makes an independent copy of the game in its current position, so that it
+	 * can be searched on another thread. Moves made on the copy, including 
+	 * taking back the moves made before copying, do not change this game.
+	 * @return the copy
+	 */
+	public StrategyGameControllerImpl copy() {
+		final StrategyGameControllerImpl copy;
+		try {
+			copy = (StrategyGameControllerImpl) clone();
+		}
+		catch (CloneNotSupportedException e) {
+			throw new StrategyRuntimeException("Game Could Not Be Copied");
+		}
+		copy.board = new BitboardBoard(board);
+		copy.undoStack = undoStack.clone();
+		copy.knowledge = knowledge.clone();
+		copy.listener = null;
+		return copy;
+	}
+	
+	/**
+	 * Puts this game in the position of another game of the same version
+	 * without allocating anything, so a search can go back to where it started
+	 * without taking back every move. Nothing can be taken back afterwards.
+	 * @param other the game to copy the position of, for example an earlier copy()
+	 */
+	public void copyFrom(StrategyGameControllerImpl other) {
+		if (other.getClass() != getClass() || other.spec != spec) {
+			throw new StrategyRuntimeException("Only a Game of the Same Version Can Be Copied");
+		}
+		board.copyFrom(other.board);
+		System.arraycopy(other.knowledge, 0, knowledge, 0, knowledge.length);
+		gameStarted = other.gameStarted;
+		gameOver = other.gameOver;
+		lastPlayerColor = other.lastPlayerColor;
+		lastRedPiece = other.lastRedPiece;
+		lastBluePiece = other.lastBluePiece;
+		lastRedFrom = other.lastRedFrom;
+		lastBlueFrom = other.lastBlueFrom;
+		lastRedTo = other.lastRedTo;
+		lastBlueTo = other.lastBlueTo;
+		redRepetitionFlag = other.redRepetitionFlag;
+		blueRepetitionFlag = other.blueRepetitionFlag;
+		numMoves = other.numMoves;
+		boardHash = other.boardHash;
+		lastOutcome = other.lastOutcome;
+		lastMoveResult = null;
+		undoSize = 0;
+		restoreVariantState(other.saveVariantState());
+		if (listener != null) {
+			listener.boardChanged(this);
+		}
+	}
+	
+	/**
+	 * Puts a different piece of the same player on an occupied cell, keeping what
+	 * the players know about the cell. Search uses this to try out identities for
+	 * pieces that have not been revealed. If the piece on the cell is the one its
+	 * player moved last, the new piece takes its place in the repetition rule and
+	 * the position hash too. Moves made before the change can no longer be taken
+	 * back.
+	 * @param index the cell index of the piece to replace
+	 * @param piece the piece to put there instead
+	 */
+	public void replacePiece(int index, Piece piece) {
+		final Piece current = board.getPieceAt(index);
+		if (current == null || piece == null || current.getOwner() == null 
+				|| current.getOwner() != piece.getOwner()) {
+			throw new StrategyRuntimeException("Only a Piece of the Same Player Can Be Replaced");
+		}
+		setPieceAt(index, piece);
+		if (current.getOwner() == PlayerColor.RED) {
+			if (index == lastRedTo && current.equals(lastRedPiece)) {
+				lastRedPiece = piece;
+			}
+		}
+		else if (index == lastBlueTo && current.equals(lastBluePiece)) {
+			lastBluePiece = piece;
+		}
+		undoSize = 0;
+	}
+	
+	/**
+	 * Attaches a listener that is told about every change to the board from
+	 * now on, starting with boardChanged(). A copy() of the game starts without
+	 * a listener.
+	 * @param listener the listener, or null to stop listening
+	 * @return the listener attached before
+	 */
+	public BoardListener setBoardListener(BoardListener listener) {
+		final BoardListener previous = this.listener;
+		this.listener = listener;
+		if (listener != null) {
+			listener.boardChanged(this);
+		}
+		return previous;
+	}
+	
+	/**
+	 * @return the listener told about changes to the board, or null if there is none
+	 */
+	public BoardListener getBoardListener() {
+		return listener;
+	}
+	
+	/**
+	 * @param index a cell index on the board
+	 * @return the KNOWN_* bits of what both players know about the piece on the cell,
+	 * 			0 if nothing is known or there is no piece
+	 */
+	public int getKnowledge(int index) {
+		return knowledge[index];
+	}
+	
+	/**
+	 * @return the board specification of this game
+	 */
+	public BoardSpec getBoardSpec() {
+		return spec;
+	}
+	
+	/**
+	 * Places a piece on the board. Every change to the board goes through here
+	 * so that the position hash stays up to date.
+	 * @param index the cell index to place the piece at
+	 * @param piece the piece to place, null to empty the space
+	 */
+	protected void setPieceAt(int index, Piece piece) {
+		final Piece removed = board.getPieceAt(index);
+		boardHash ^= ZobristKeys.piece(removed, index) ^ ZobristKeys.piece(piece, index);
+		board.setPieceAt(index, piece);
+		if (listener != null) {
+			listener.pieceChanged(index, removed, piece);
+		}
+	}
+	
+	/**
+	 * Places a piece on the board
+	 * @param location the location to place the piece at
+	 * @param piece the piece to place, null to empty the space
+	 */
+	protected void setPieceAt(Location location, Piece piece) {
+		setPieceAt(board.indexOf(location), piece);
+	}
+	
+	/**
+	 * Removes every piece from the board
+	 */
+	protected void clearBoard() {
+		board.clear();
+		Arrays.fill(knowledge, (byte) 0);
+		boardHash = 0;
+		if (listener != null) {
+			listener.boardChanged(this);
+		}
+	}
+	
+	/**
+	 * Returns a 64 bit Zobrist hash of the position. Two games in the same position
+	 * (same pieces on the same cells, same player to move and same repetition and
+	 * version specific state) have the same hash, in any run of the program.
+	 * @return the hash of the current position
+	 */
+	public long positionHash() {
+		long hash = boardHash;
+		
+		hash ^= ZobristKeys.lastPlayer(lastPlayerColor);
+		hash ^= ZobristKeys.lastMoved(PlayerColor.RED, lastRedPiece, lastRedFrom);
+		hash ^= ZobristKeys.lastMoved(PlayerColor.BLUE, lastBluePiece, lastBlueFrom);
+		if (redRepetitionFlag) {
+			hash ^= ZobristKeys.repetition(PlayerColor.RED);
+		}
+		if (blueRepetitionFlag) {
+			hash ^= ZobristKeys.repetition(PlayerColor.BLUE);
+		}
+		if (gameOver) {
+			hash ^= ZobristKeys.gameOver();
+		}
+		hash ^= ZobristKeys.variant(saveVariantState());
+		
+		return hash;
+	}
+	
+	/*
+	 * @see strategy.game.StrategyGameController#getPieceAt()
+	 */
+	public Piece getPieceAt(Location location) {
+		return board.getPieceAt(location);
+	}
+	
+	/**
+	 * @param index a cell index on the board
+	 * @return the piece on the given cell or null if there is none
+	 */
+	public Piece getPieceAt(int index) {
+		return board.getPieceAt(index);
+	}
+	
+	/**
+	 * @return the player whose turn it is, or null if the game has not started or is over
+	 */
+	public PlayerColor getPlayerToMove() {
+		if (!gameStarted || gameOver) {
+			return null;
+		}
+		return lastPlayerColor == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+	}
+
+}
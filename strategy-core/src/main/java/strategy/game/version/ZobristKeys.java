@@ -0,0 +1,146 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Piece;
+
+/**
+ * The random keys used to hash Strategy positions. A position hash is the XOR of
+ * the key of every (piece, cell) pair on the board together with keys for the
+ * rest of the game state, so moving a piece only needs two XORs per cell.
+ * 
+ * The keys come from a fixed seed, so the same position hashes to the same value 
+ * in every run of the program.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public final class ZobristKeys {
+	
+	// large enough for any board used by the versions of Strategy
+	private static final int MAX_CELLS = 128;
+	private static final int NUM_CODES = ArrayBoard.CHOKE_CODE + 1;
+	private static final int NUM_VARIANT_BITS = 8;
+	
+	private static final long[] PIECE_KEYS = new long[NUM_CODES * MAX_CELLS];
+	// last piece moved and the cell it came from (+1 so no cell is -1), per color
+	private static final long[] LAST_MOVED_KEYS = new long[2 * NUM_CODES * (MAX_CELLS + 1)];
+	private static final long[] LAST_PLAYER_KEYS = new long[3];
+	private static final long[] REPETITION_KEYS = new long[2];
+	private static final long[] VARIANT_KEYS = new long[NUM_VARIANT_BITS];
+	private static final long GAME_OVER_KEY;
+	
+	static {
+		long seed = 0x5EED4233L;
+		
+		// an empty cell (code 0) contributes nothing to the hash
+		for (int i = MAX_CELLS; i < PIECE_KEYS.length; i++) {
+			seed = nextSeed(seed);
+			PIECE_KEYS[i] = mix(seed);
+		}
+		for (int i = 0; i < LAST_MOVED_KEYS.length; i++) {
+			seed = nextSeed(seed);
+			LAST_MOVED_KEYS[i] = mix(seed);
+		}
+		for (int i = 0; i < LAST_PLAYER_KEYS.length; i++) {
+			seed = nextSeed(seed);
+			LAST_PLAYER_KEYS[i] = mix(seed);
+		}
+		for (int i = 0; i < REPETITION_KEYS.length; i++) {
+			seed = nextSeed(seed);
+			REPETITION_KEYS[i] = mix(seed);
+		}
+		for (int i = 0; i < VARIANT_KEYS.length; i++) {
+			seed = nextSeed(seed);
+			VARIANT_KEYS[i] = mix(seed);
+		}
+		seed = nextSeed(seed);
+		GAME_OVER_KEY = mix(seed);
+	}
+	
+	/**
+	 * Private constructor, this class only has static members
+	 */
+	private ZobristKeys() {
+		// Intentionally left empty.
+	}
+	
+	/**
+	 * @param piece the piece on the cell, null for an empty cell
+	 * @param index the cell index
+	 * @return the key for the piece being on the cell
+	 */
+	public static long piece(Piece piece, int index) {
+		return PIECE_KEYS[ArrayBoard.codeOf(piece) * MAX_CELLS + index];
+	}
+	
+	/**
+	 * @param color the player
+	 * @param piece the last piece the player moved, null if the player has not moved
+	 * @param from the cell the piece moved from, -1 if the player has not moved
+	 * @return the key for the player's last move
+	 */
+	public static long lastMoved(PlayerColor color, Piece piece, int from) {
+		return LAST_MOVED_KEYS[(color.ordinal() * NUM_CODES + ArrayBoard.codeOf(piece)) * (MAX_CELLS + 1) + from + 1];
+	}
+	
+	/**
+	 * @param color the player who moved last, null if nobody has moved
+	 * @return the key for the player who moved last
+	 */
+	public static long lastPlayer(PlayerColor color) {
+		return LAST_PLAYER_KEYS[color == null ? 2 : color.ordinal()];
+	}
+	
+	/**
+	 * @param color the player whose move repetition flag is set
+	 * @return the key for the flag
+	 */
+	public static long repetition(PlayerColor color) {
+		return REPETITION_KEYS[color.ordinal()];
+	}
+	
+	/**
+	 * @param state the version specific state packed into an int (only the low 8 bits are used)
+	 * @return the key for the state
+	 */
+	public static long variant(int state) {
+		long key = 0;
+		for (int bit = 0; bit < NUM_VARIANT_BITS; bit++) {
+			if ((state & (1 << bit)) != 0) {
+				key ^= VARIANT_KEYS[bit];
+			}
+		}
+		return key;
+	}
+	
+	/**
+	 * @return the key for a game that is over
+	 */
+	public static long gameOver() {
+		return GAME_OVER_KEY;
+	}
+	
+	/**
+	 * Steps the seed of the generator (SplitMix64)
+	 * @param seed the current seed
+	 * @return the next seed
+	 */
+	private static long nextSeed(long seed) {
+		return seed + 0x9E3779B97F4A7C15L;
+	}
+	
+	/**
+	 * Scrambles a seed into a well distributed random key (SplitMix64)
+	 * @param seed the seed to scramble
+	 * @return the key
+	 */
+	private static long mix(long seed) {
+		long z = seed;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -24,14 +24,14 @@ public class AlphaStrategyGameController implements StrategyGameController
 {
 	private boolean gameStarted;
 	private boolean gameOver;
-	private final Location redMarshalLocation = new Location2D(0, 0);
-	private final Location redFlagLocation = new Location2D(1, 0);
-	private final Location blueFlagLocation = new Location2D(0, 1);
-	private final Location blueMarshalLocation = new Location2D(1, 1);
-	private final Piece redMarshal = new Piece(PieceType.MARSHAL, PlayerColor.RED);
-	private final Piece redFlag = new Piece(PieceType.FLAG, PlayerColor.RED);
-	private final Piece blueFlag = new Piece(PieceType.FLAG, PlayerColor.BLUE);
-	private final Piece blueMarshal = new Piece(PieceType.MARSHAL, PlayerColor.BLUE);
+	private final Location redMarshalLocation = Location2D.of(0, 0);
+	private final Location redFlagLocation = Location2D.of(1, 0);
+	private final Location blueFlagLocation = Location2D.of(0, 1);
+	private final Location blueMarshalLocation = Location2D.of(1, 1);
+	private final Piece redMarshal = Piece.of(PieceType.MARSHAL, PlayerColor.RED);
+	private final Piece redFlag = Piece.of(PieceType.FLAG, PlayerColor.RED);
+	private final Piece blueFlag = Piece.of(PieceType.FLAG, PlayerColor.BLUE);
+	private final Piece blueMarshal = Piece.of(PieceType.MARSHAL, PlayerColor.BLUE);
 	
 	public AlphaStrategyGameController()
 	{
@@ -71,8 +71,8 @@ public class AlphaStrategyGameController implements StrategyGameController
 		gameOver = true;
 		final PieceLocationDescriptor redMarshal =
 				new PieceLocationDescriptor(
-					new Piece(PieceType.MARSHAL, PlayerColor.RED),
-					new Location2D(0, 1));
+					Piece.of(PieceType.MARSHAL, PlayerColor.RED),
+					Location2D.of(0, 1));
 		return new MoveResult(MoveResultStatus.RED_WINS, redMarshal);
 	}
 
@@ -72,7 +72,7 @@ public class BetaStrategyGameControlller implements StrategyGameController {
 		// add all spaces to board
 		for (int i = 0; i < 6; i++) {
 			for (int j = 0; j < 6; j++) {
-				board.put(new Location2D(j, i), null);
+				board.put(Location2D.of(j, i), null);
 			}
 		}
 				
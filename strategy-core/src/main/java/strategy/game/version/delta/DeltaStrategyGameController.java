@@ -0,0 +1,184 @@
+/**
+ * 
+ */
+package strategy.game.version.delta;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import strategy.common.StrategyException;
+import strategy.game.StrategyGameController;
+import strategy.game.common.Location;
+import strategy.game.common.Location2D;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.version.BoardSpec;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveOutcome;
+import strategy.game.version.MoveValidation;
+import strategy.game.version.SetupValidator;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * @author Alex C
+ * @version October 8, 2013
+ */
+public class DeltaStrategyGameController extends StrategyGameControllerImpl
+		implements StrategyGameController {
+	
+	/**
+	 * The board used by every Delta game: 10x10 with two 2x2 groups of choke points
+	 */
+	public static final BoardSpec BOARD_SPEC = new BoardSpec(10, 10, 40, 
+			new Location[] { 
+				Location2D.of(2,4), 
+				Location2D.of(2,5), 
+				Location2D.of(3,4), 
+				Location2D.of(3,5),
+				Location2D.of(6,4), 
+				Location2D.of(6,5), 
+				Location2D.of(7,4), 
+				Location2D.of(7,5) });
+	
+	/**
+	 * Pieces each player sets up in a Delta game
+	 */
+	public static final SetupValidator SETUP_VALIDATOR;
+	static {
+		final Map<PieceType, Integer> pieceCounts = new EnumMap<PieceType, Integer>(PieceType.class);
+		pieceCounts.put(PieceType.MARSHAL, 1);
+		pieceCounts.put(PieceType.GENERAL, 1);
+		pieceCounts.put(PieceType.COLONEL, 2);
+		pieceCounts.put(PieceType.MAJOR, 3);
+		pieceCounts.put(PieceType.CAPTAIN, 4);
+		pieceCounts.put(PieceType.LIEUTENANT, 4);
+		pieceCounts.put(PieceType.SERGEANT, 4);
+		pieceCounts.put(PieceType.MINER, 5);
+		pieceCounts.put(PieceType.SCOUT, 8);
+		pieceCounts.put(PieceType.SPY, 1);
+		pieceCounts.put(PieceType.BOMB, 6);
+		pieceCounts.put(PieceType.FLAG, 1);
+		SETUP_VALIDATOR = new SetupValidator(BOARD_SPEC, pieceCounts);
+	}
+
+	public DeltaStrategyGameController(Collection<PieceLocationDescriptor> redPieces, 
+			Collection<PieceLocationDescriptor> bluePieces) throws StrategyException 
+	{
+		super(BOARD_SPEC, redPieces, bluePieces);
+	}
+
+	/* 
+	 * @see strategy.game.version.StrategyGameControllerImpl#setVariables(java.util.Collection, java.util.Collection)
+	 */
+	@Override
+	protected void setVariables(Collection<PieceLocationDescriptor> redPieces,
+			Collection<PieceLocationDescriptor> bluePieces) {
+		gameStarted = false;
+		gameOver = false;
+		lastPlayerColor = null;
+		redSetup = redPieces;
+		blueSetup = bluePieces;
+		lastRedPiece = null;
+		lastBluePiece = null;
+		lastRedFrom = -1;
+		lastBlueFrom = -1;
+		lastRedTo = -1;
+		lastBlueTo = -1;
+		redRepetitionFlag = false;
+		blueRepetitionFlag = false;
+	}
+
+	/* 
+	 * @see strategy.game.version.StrategyGameControllerImpl#validatePiecesAndLocations(java.util.Collection)
+	 */
+	@Override
+	protected void validatePiecesAndLocations(
+			Collection<PieceLocationDescriptor> playerPieces)
+			throws StrategyException {
+		SETUP_VALIDATOR.validate(playerPieces);
+	}
+	
+	
+	protected long battle(int from, int to) {
+		final Piece fromPiece = board.getPieceAt(from);
+		final Piece toPiece = board.getPieceAt(to);
+		 
+		
+		// if attacking BOMB and attacker is not a miner
+		if (toPiece.getType() == PieceType.BOMB && fromPiece.getType() != PieceType.MINER) {
+			// piece gets destroyed
+			setPieceAt(from, null);
+
+			return MoveOutcome.encode(MoveResultStatus.OK, toPiece, to);
+		}
+		// special case of spy attacking marshal
+		else if (fromPiece.getType() == PieceType.SPY && toPiece.getType() == PieceType.MARSHAL) {
+			// spy wins
+			setPieceAt(from, null);
+			setPieceAt(to, fromPiece);
+
+			return MoveOutcome.encode(MoveResultStatus.OK, fromPiece, to);
+		}
+		else {
+			 return super.battle(from, to);
+		}
+	}
+	
+	/**
+	 * Scouts may move any number of empty spaces in a straight line
+	 * @see strategy.game.version.StrategyGameControllerImpl#addPieceMoves(int, strategy.game.common.Piece, strategy.game.version.MoveBuffer)
+	 */
+	@Override
+	protected void addPieceMoves(int from, Piece piece, MoveBuffer moves) {
+		if (piece.getType() == PieceType.SCOUT) {
+			addSlidingMoves(from, piece, moves);
+		}
+		else {
+			super.addPieceMoves(from, piece, moves);
+		}
+	}
+	
+	/**
+	 * Determines if moving to the given to location is valid from the given from location
+	 * @param from cell index of the base location
+	 * @param to cell index of the location to go
+	 * @return MoveValidation.OK if the piece may move there, otherwise the rule it breaks
+	 */
+	@Override
+	protected MoveValidation checkLocations(int from, int to) {
+		if (board.getPieceAt(from).getType() == PieceType.SCOUT) {
+			return checkScoutLocation(from, to);
+		}
+		return super.checkLocations(from, to);
+	}
+	
+	/**
+	 * Checks the validity of a move if the piece moving is a scout 
+	 * @param from the cell index the scout is moving from
+	 * @param to the cell index the scout is moving to
+	 * @return MoveValidation.OK if the scout may move there, otherwise the rule it breaks
+	 */
+	private MoveValidation checkScoutLocation(int from, int to) {
+		final int moveDist = distanceBetween(from, to);
+		
+		if (moveDist < 0) {
+			return MoveValidation.NOT_IN_LINE;
+		}
+		
+		if (moveDist > 1) {
+			if (!board.isEmpty(to)) {
+				return MoveValidation.SCOUT_ATTACK_FROM_DISTANCE;
+			}
+			
+			if (board.isPathBlocked(from, to)) {
+				return MoveValidation.SCOUT_PATH_BLOCKED;
+			}
+		}
+		
+		return MoveValidation.OK;
+	}
+
+}
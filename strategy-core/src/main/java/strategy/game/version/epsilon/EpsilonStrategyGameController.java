@@ -0,0 +1,422 @@
+/**
+ * 
+ */
+package strategy.game.version.epsilon;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.StrategyGameController;
+import strategy.game.common.Location;
+import strategy.game.common.Location2D;
+import strategy.game.common.MoveResult;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.common.StrategyGameObservable;
+import strategy.game.common.StrategyGameObserver;
+import strategy.game.version.BoardSpec;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveOutcome;
+import strategy.game.version.MoveValidation;
+import strategy.game.version.SetupValidator;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * @author Alex C
+ * @version October 15, 2013
+ */
+public class EpsilonStrategyGameController extends StrategyGameControllerImpl
+		implements StrategyGameController, StrategyGameObservable {
+	
+	/**
+	 * The board used by every Epsilon game: 10x10 with two 2x2 groups of choke points
+	 */
+	public static final BoardSpec BOARD_SPEC = new BoardSpec(10, 10, 40, 
+			new Location[] { 
+				Location2D.of(2,4), 
+				Location2D.of(2,5), 
+				Location2D.of(3,4), 
+				Location2D.of(3,5),
+				Location2D.of(6,4), 
+				Location2D.of(6,5), 
+				Location2D.of(7,4), 
+				Location2D.of(7,5) });
+	
+	/**
+	 * Pieces each player sets up in an Epsilon game. Both flags are required and
+	 * take the place of one other piece, which may be of any type.
+	 */
+	public static final SetupValidator SETUP_VALIDATOR;
+	static {
+		final Map<PieceType, Integer> pieceCounts = new EnumMap<PieceType, Integer>(PieceType.class);
+		pieceCounts.put(PieceType.MARSHAL, 1);
+		pieceCounts.put(PieceType.GENERAL, 1);
+		pieceCounts.put(PieceType.COLONEL, 2);
+		pieceCounts.put(PieceType.MAJOR, 3);
+		pieceCounts.put(PieceType.CAPTAIN, 4);
+		pieceCounts.put(PieceType.FIRST_LIEUTENANT, 2);
+		pieceCounts.put(PieceType.LIEUTENANT, 2);
+		pieceCounts.put(PieceType.SERGEANT, 4);
+		pieceCounts.put(PieceType.MINER, 5);
+		pieceCounts.put(PieceType.SCOUT, 8);
+		pieceCounts.put(PieceType.SPY, 1);
+		pieceCounts.put(PieceType.BOMB, 6);
+		pieceCounts.put(PieceType.FLAG, 2);
+		SETUP_VALIDATOR = new SetupValidator(BOARD_SPEC, pieceCounts, EnumSet.of(PieceType.FLAG));
+	}
+	
+	private Collection<StrategyGameObserver> observerList;
+	private boolean redFlagCaptured, blueFlagCaptured;
+
+	/**
+	 * Constructor for EpsilonStrategyGameController
+	 * @param redPieces the initial starting configuration for the RED pieces
+	 * @param bluePieces the initial starting configuration for the BLUE pieces
+	 * @param observers the collection of observers to add to this game (null if no observers are needed)
+	 * @throws StrategyException if either configuration is incorrect
+	 */
+	public EpsilonStrategyGameController(
+			Collection<PieceLocationDescriptor> redPieces,
+			Collection<PieceLocationDescriptor> bluePieces,
+			Collection<StrategyGameObserver>observers)
+			throws StrategyException {
+		super(BOARD_SPEC, redPieces, bluePieces);
+		
+		if (observers == null) {
+			observerList = new ArrayList<StrategyGameObserver>();
+		}
+		else {
+			observerList = observers;
+		}
+	}
+	
+	/*
+	 * @see strategy.game.StrategyGameController#startGame()
+	 */
+	@Override
+	public void startGame() throws StrategyException {
+		super.startGame();
+		
+		for (StrategyGameObserver obs : observerList) {
+			obs.gameStart(redSetup, blueSetup);
+		}
+		
+	}
+
+	/* 
+	 * @see strategy.game.version.StrategyGameControllerImpl#setVariables(java.util.Collection, java.util.Collection)
+	 */
+	@Override
+	protected void setVariables(Collection<PieceLocationDescriptor> redPieces,
+			Collection<PieceLocationDescriptor> bluePieces) {
+		gameStarted = false;
+		gameOver = false;
+		lastPlayerColor = null;
+		redSetup = redPieces;
+		blueSetup = bluePieces;
+		lastRedPiece = null;
+		lastBluePiece = null;
+		lastRedFrom = -1;
+		lastBlueFrom = -1;
+		lastRedTo = -1;
+		lastBlueTo = -1;
+		redRepetitionFlag = false;
+		blueRepetitionFlag = false;
+
+		redFlagCaptured = false;
+		blueFlagCaptured = false;
+	}
+
+	/* 
+	 * @see strategy.game.version.StrategyGameControllerImpl#validatePiecesAndLocations(java.util.Collection)
+	 */
+	@Override
+	protected void validatePiecesAndLocations(
+			Collection<PieceLocationDescriptor> playerPieces)
+			throws StrategyException {
+		SETUP_VALIDATOR.validate(playerPieces);
+	}
+	
+	/*
+	 * Passing null for the piece and both locations resigns the game. Observers
+	 * are told about every move request, including the ones that are rejected.
+	 * @see strategy.game.version.StrategyGameControllerImpl#tryMove(strategy.game.common.PieceType, strategy.game.common.Location, strategy.game.common.Location)
+	 */
+	@Override
+	public MoveValidation tryMove(PieceType piece, Location from, Location to) {
+		
+		MoveValidation validation = MoveValidation.OK;
+		
+		if (piece == null && from == null && to == null) {
+			// blue was last to move so red resigned
+			if (lastPlayerColor == PlayerColor.BLUE || lastPlayerColor == null) {
+
+				setLastOutcome(MoveOutcome.encode(MoveResultStatus.BLUE_WINS, null, -1));
+			}
+			else {
+				// otherwise red wins	
+				setLastOutcome(MoveOutcome.encode(MoveResultStatus.RED_WINS, null, -1));
+			}
+		}
+		else {
+			validation = super.tryMove(piece, from, to);
+		}
+		
+		if (!observerList.isEmpty()) {
+			// only build the exception when someone is listening for it
+			final MoveResult result = validation == MoveValidation.OK ? getLastMoveResult() : null;
+			final StrategyException fault = validation == MoveValidation.OK ? null 
+					: new StrategyException(validation.getMessage());
+			
+			for (StrategyGameObserver obs : observerList) {
+				obs.moveHappened(piece, from, to, result, fault);
+			}
+		}
+		
+		return validation;
+	}
+	
+	@Override
+	protected long battle(int from, int to) {
+		final Piece fromPiece = board.getPieceAt(from);
+		final Piece toPiece = board.getPieceAt(to);
+		 
+		// red attacking first blue flag
+		if (toPiece.getType() == PieceType.FLAG && lastPlayerColor == PlayerColor.BLUE && !blueFlagCaptured) {
+			setPieceAt(from, null);
+			setPieceAt(to, fromPiece);
+			
+			blueFlagCaptured = true;
+			
+			return MoveOutcome.encode(MoveResultStatus.OK, fromPiece, to);
+		}
+		// blue attacking first red flag
+		else if (toPiece.getType() == PieceType.FLAG && lastPlayerColor == PlayerColor.RED && !redFlagCaptured) {
+			setPieceAt(from, null);
+			setPieceAt(to, fromPiece);
+			
+			redFlagCaptured = true;
+			
+			return MoveOutcome.encode(MoveResultStatus.OK, fromPiece, to);
+		}
+		// if attacking BOMB and attacker is not a miner
+		else if (toPiece.getType() == PieceType.BOMB && fromPiece.getType() != PieceType.MINER) {
+			// piece gets destroyed
+			setPieceAt(from, null);
+
+			return MoveOutcome.encode(MoveResultStatus.OK, toPiece, to);
+		}
+		// special case of spy attacking marshal
+		else if (fromPiece.getType() == PieceType.SPY && toPiece.getType() == PieceType.MARSHAL) {
+			// spy wins
+			setPieceAt(from, null);
+			setPieceAt(to, fromPiece);
+
+			return MoveOutcome.encode(MoveResultStatus.OK, fromPiece, to);
+		}
+		// special Draw Case
+		else if (fromPiece.getType() == PieceType.FIRST_LIEUTENANT && toPiece.getType() == PieceType.LIEUTENANT ||
+				fromPiece.getType() == PieceType.LIEUTENANT && toPiece.getType() == PieceType.FIRST_LIEUTENANT) {
+			// both pieces are destroyed
+			setPieceAt(from, null);
+			setPieceAt(to, null);
+
+			return MoveOutcome.encode(MoveResultStatus.OK, null, -1);
+		}
+		// from piece is 1st LT and is attacking using 2 space rule.
+		else if (fromPiece.getType() == PieceType.FIRST_LIEUTENANT && distanceBetween(from, to) == 2) {
+			final int pieceComparison = fromPiece.getType().compareTo(toPiece.getType());
+			
+			// 1st LT Wins
+			if (pieceComparison < 0) {
+				setPieceAt(from, null);
+				setPieceAt(to, fromPiece);
+				
+				return MoveOutcome.encode(MoveResultStatus.OK, fromPiece, to);
+			}
+			// 1st LT Loses
+			else { 
+				// only remove 1st LT, dont move other piece
+				setPieceAt(from, null);
+				
+				return MoveOutcome.encode(MoveResultStatus.OK, toPiece, to);
+			}
+			
+		}
+		else {
+			 return super.battle(from, to);
+		}
+	}
+	
+	/*
+	 * @see strategy.game.version.StrategyGameControllerImpl#saveVariantState()
+	 */
+	@Override
+	protected int saveVariantState() {
+		return (redFlagCaptured ? 1 : 0) | (blueFlagCaptured ? 2 : 0);
+	}
+	
+	/*
+	 * @see strategy.game.version.StrategyGameControllerImpl#restoreVariantState(int)
+	 */
+	@Override
+	protected void restoreVariantState(int state) {
+		redFlagCaptured = (state & 1) != 0;
+		blueFlagCaptured = (state & 2) != 0;
+	}
+	
+	/**
+	 * Scouts may move any number of empty spaces in a straight line and
+	 * First Lieutenants may attack a piece two spaces away over an empty space
+	 * @see strategy.game.version.StrategyGameControllerImpl#addPieceMoves(int, strategy.game.common.Piece, strategy.game.version.MoveBuffer)
+	 */
+	@Override
+	protected void addPieceMoves(int from, Piece piece, MoveBuffer moves) {
+		if (piece.getType() == PieceType.SCOUT) {
+			addSlidingMoves(from, piece, moves);
+			return;
+		}
+		
+		super.addPieceMoves(from, piece, moves);
+		
+		if (piece.getType() == PieceType.FIRST_LIEUTENANT) {
+			final int width = spec.getWidth();
+			final int x = from % width;
+			final int y = from / width;
+			
+			if (x > 1) {
+				addTwoSpaceAttack(from, -1, piece, moves);
+			}
+			if (x < width - 2) {
+				addTwoSpaceAttack(from, 1, piece, moves);
+			}
+			if (y > 1) {
+				addTwoSpaceAttack(from, -width, piece, moves);
+			}
+			if (y < spec.getHeight() - 2) {
+				addTwoSpaceAttack(from, width, piece, moves);
+			}
+		}
+	}
+	
+	/**
+	 * Adds a First Lieutenant two space attack if the space in between is empty
+	 * and the target space holds an opponent's piece
+	 * @param from cell index of the First Lieutenant
+	 * @param step the change in cell index for one space in the direction of the attack
+	 * @param piece the First Lieutenant
+	 * @param moves the buffer to add the move to
+	 */
+	private void addTwoSpaceAttack(int from, int step, Piece piece, MoveBuffer moves) {
+		final int to = from + 2 * step;
+		if (board.isEmpty(from + step) && isOpponentAt(to, piece.getOwner())) {
+			addMove(from, to, piece, moves);
+		}
+	}
+	
+	/**
+	 * Determines if moving to the given to location is valid from the given from location
+	 * @param from cell index of the base location
+	 * @param to cell index of the location to go
+	 * @return MoveValidation.OK if the piece may move there, otherwise the rule it breaks
+	 */
+	@Override
+	protected MoveValidation checkLocations(int from, int to) {
+		if (board.getPieceAt(from).getType() == PieceType.SCOUT) {
+			return checkScoutLocation(from, to);
+		}
+		else if (board.getPieceAt(from).getType() == PieceType.FIRST_LIEUTENANT) {
+			return checkFirstLieutenantLocation(from, to);
+		}
+		return super.checkLocations(from, to);
+	}
+	
+	/**
+	 * Checks the validity of a move if the piece moving is a scout 
+	 * @param from the cell index the scout is moving from
+	 * @param to the cell index the scout is moving to
+	 * @return MoveValidation.OK if the scout may move there, otherwise the rule it breaks
+	 */
+	private MoveValidation checkScoutLocation(int from, int to) {
+		final int moveDist = distanceBetween(from, to);
+		
+		if (moveDist < 0) {
+			return MoveValidation.NOT_IN_LINE;
+		}
+		
+		if (moveDist > 1) {
+			if (!board.isEmpty(to)) {
+				return MoveValidation.SCOUT_ATTACK_FROM_DISTANCE;
+			}
+			
+			if (board.isPathBlocked(from, to)) {
+				return MoveValidation.SCOUT_PATH_BLOCKED;
+			}
+		}
+		
+		return MoveValidation.OK;
+	}
+	
+	/**
+	 * Checks the validity of a move if the piece moving is a First Lieutenant 
+	 * @param from the cell index the First Lieutenant is moving from
+	 * @param to the cell index the First Lieutenant is moving to
+	 * @return MoveValidation.OK if the First Lieutenant may move there, otherwise the rule it breaks
+	 */
+	private MoveValidation checkFirstLieutenantLocation(int from, int to) {
+		final int moveDist = distanceBetween(from, to);
+		
+		if (moveDist < 0) {
+			return MoveValidation.NOT_IN_LINE;
+		}
+		if (moveDist > 2) {
+			return MoveValidation.FIRST_LT_TOO_FAR;
+		}
+		if (moveDist == 2) {
+			if (board.isEmpty(to)) {
+				return MoveValidation.FIRST_LT_MOVE_TWO_SPACES;
+			}
+			// midpoint of two cells on the same row or column
+			if (!board.isEmpty((from + to) / 2)) {
+				return MoveValidation.FIRST_LT_PATH_BLOCKED;
+			}
+		}
+		
+		return MoveValidation.OK;
+	}
+
+	/**
+	 * The copy starts without observers, moves made on it are not reported
+	 * to the observers of this game
+	 */
+	@Override
+	public EpsilonStrategyGameController copy() {
+		final EpsilonStrategyGameController copy = (EpsilonStrategyGameController) super.copy();
+		copy.observerList = new ArrayList<StrategyGameObserver>();
+		return copy;
+	}
+	
+	/* 
+	 * @see strategy.game.common.StrategyGameObservable#register(strategy.game.common.StrategyGameObserver)
+	 */
+	@Override
+	public void register(StrategyGameObserver observer) {
+		observerList.add(observer);
+	}
+
+	/* 
+	 * @see strategy.game.common.StrategyGameObservable#unregister(strategy.game.common.StrategyGameObserver)
+	 */
+	@Override
+	public void unregister(StrategyGameObserver observer) {
+		observerList.remove(observer);
+	}
+
+}
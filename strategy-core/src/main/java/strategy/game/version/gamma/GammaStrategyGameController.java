@@ -0,0 +1,88 @@
+/**
+ * 
+ */
+package strategy.game.version.gamma;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import strategy.common.StrategyException;
+import strategy.game.common.Location;
+import strategy.game.common.Location2D;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.version.BoardSpec;
+import strategy.game.version.SetupValidator;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * @author Alex C
+ * @version September 24, 2013
+ */
+public class GammaStrategyGameController extends StrategyGameControllerImpl {
+	
+	/**
+	 * The board used by every Gamma game: 6x6 with 4 choke points in the middle
+	 */
+	public static final BoardSpec BOARD_SPEC = new BoardSpec(6, 6, 12, 
+			new Location[] { 
+				Location2D.of(2,2),
+				Location2D.of(2,3), 
+				Location2D.of(3,2), 
+				Location2D.of(3,3) });
+	
+	/**
+	 * Pieces each player sets up in a Gamma game
+	 */
+	public static final SetupValidator SETUP_VALIDATOR;
+	static {
+		final Map<PieceType, Integer> pieceCounts = new EnumMap<PieceType, Integer>(PieceType.class);
+		pieceCounts.put(PieceType.FLAG, 1);
+		pieceCounts.put(PieceType.MARSHAL, 1);
+		pieceCounts.put(PieceType.COLONEL, 2);
+		pieceCounts.put(PieceType.CAPTAIN, 2);
+		pieceCounts.put(PieceType.LIEUTENANT, 3);
+		pieceCounts.put(PieceType.SERGEANT, 3);
+		SETUP_VALIDATOR = new SetupValidator(BOARD_SPEC, pieceCounts);
+	}
+	
+	public GammaStrategyGameController(Collection<PieceLocationDescriptor> redPieces, 
+			Collection<PieceLocationDescriptor> bluePieces) throws StrategyException {
+		super(BOARD_SPEC, redPieces, bluePieces);
+	}
+	
+	/**
+	 * Validates a collection of pieces for valid PieceType and Location
+	 * Throws StrategyException if the piece collection is invalid
+	 * @param playerPieces the collection of pieces to be verified
+	 * @throws StrategyException
+	 */
+	protected void validatePiecesAndLocations(Collection<PieceLocationDescriptor> playerPieces) 
+			throws StrategyException 
+	{
+		SETUP_VALIDATOR.validate(playerPieces);
+	}
+	
+	/**
+	 * 
+	 */
+	protected void setVariables(Collection<PieceLocationDescriptor> redPieces, 
+			Collection<PieceLocationDescriptor> bluePieces) 
+	{
+		gameStarted = false;
+		gameOver = false;
+		lastPlayerColor = null;
+		redSetup = redPieces;
+		blueSetup = bluePieces;
+		lastRedPiece = null;
+		lastBluePiece = null;
+		lastRedFrom = -1;
+		lastBlueFrom = -1;
+		lastRedTo = -1;
+		lastBlueTo = -1;
+		redRepetitionFlag = false;
+		blueRepetitionFlag = false;
+	}
+	
+}
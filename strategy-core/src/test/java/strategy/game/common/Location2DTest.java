@@ -0,0 +1,70 @@
+/**
+ * 
+ */
+package strategy.game.common;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * @author Alex C
+ *
+ */
+public class Location2DTest {
+	
+	@Test
+	public void ofReturnsSharedInstanceTest() {
+		assertSame(Location2D.of(3, 7), Location2D.of(3, 7));
+		assertEquals(new Location2D(3, 7), Location2D.of(3, 7));
+	}
+	
+	@Test
+	public void outsideGridIsNotSharedTest() {
+		final Location2D far = Location2D.of(40, 2);
+		
+		assertNotSame(far, Location2D.of(40, 2));
+		assertEquals(far, Location2D.of(40, 2));
+	}
+	
+	@Test
+	public void accessorsMatchCoordinatesTest() {
+		final Location2D location = Location2D.of(4, 9);
+		
+		assertEquals(location.getCoordinate(Coordinate.X_COORDINATE), location.x());
+		assertEquals(location.getCoordinate(Coordinate.Y_COORDINATE), location.y());
+	}
+	
+	@Test
+	public void gridIsInCellOrderTest() {
+		final Location2D[] grid = Location2D.grid(6, 6);
+		
+		assertSame(grid, Location2D.grid(6, 6));
+		assertSame(Location2D.of(1, 2), grid[2 * 6 + 1]);
+		assertSame(Location2D.of(5, 5), grid[35]);
+	}
+	
+	@Test
+	public void gridsOfDifferentSizesAreDifferentTest() {
+		final Location2D[] tall = Location2D.grid(1, 17);
+		final Location2D[] wide = Location2D.grid(2, 0);
+		
+		assertEquals(17, tall.length);
+		assertEquals(0, wide.length);
+		assertEquals(Location2D.of(0, 16), tall[16]);
+	}
+	
+	@Test
+	public void hashCodesDoNotCollideTest() {
+		final Set<Integer> hashes = new HashSet<Integer>();
+		for (int x = 0; x < 100; x++) {
+			for (int y = 0; y < 100; y++) {
+				assertTrue(hashes.add(Location2D.of(x, y).hashCode()));
+			}
+		}
+		assertFalse(Location2D.of(1, 2).hashCode() == Location2D.of(2, 1).hashCode());
+	}
+}
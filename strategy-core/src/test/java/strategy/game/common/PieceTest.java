@@ -0,0 +1,62 @@
+/**
+ * 
+ */
+package strategy.game.common;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+
+/**
+ * @author Alex C
+ *
+ */
+public class PieceTest {
+	
+	@Test
+	public void ofReturnsSharedInstanceTest() {
+		assertSame(Piece.of(PieceType.SPY, PlayerColor.BLUE), Piece.of(PieceType.SPY, PlayerColor.BLUE));
+		assertEquals(new Piece(PieceType.SPY, PlayerColor.BLUE), Piece.of(PieceType.SPY, PlayerColor.BLUE));
+		assertSame(Piece.of(PieceType.CHOKE_POINT, null), Piece.ofCode(Piece.CHOKE_CODE));
+	}
+	
+	@Test
+	public void codesAreDistinctAndStableTest() {
+		final Set<Integer> hashes = new HashSet<Integer>();
+		for (PlayerColor color : PlayerColor.values()) {
+			for (PieceType type : PieceType.values()) {
+				final Piece piece = Piece.of(type, color);
+				
+				assertSame(piece, Piece.ofCode(piece.getCode()));
+				assertTrue(hashes.add(piece.hashCode()));
+			}
+		}
+		assertEquals(28, hashes.size());
+		// the codes are part of the hashes saved by search, so they must never change
+		assertEquals(1, Piece.of(PieceType.MARSHAL, PlayerColor.RED).getCode());
+		assertEquals(28, Piece.of(PieceType.CHOKE_POINT, PlayerColor.BLUE).getCode());
+	}
+	
+	@Test
+	public void descriptorKeepsSharedPieceTest() {
+		final PieceLocationDescriptor descriptor = 
+				new PieceLocationDescriptor(new Piece(PieceType.MINER, PlayerColor.RED), Location2D.of(1, 1));
+		
+		assertSame(Piece.of(PieceType.MINER, PlayerColor.RED), descriptor.getPiece());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void ownerlessPieceIsNotAChokePointTest() {
+		new Piece(PieceType.MARSHAL, null);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void pieceNeedsATypeTest() {
+		Piece.of(null, PlayerColor.RED);
+	}
+}
@@ -0,0 +1,165 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.Location;
+import strategy.game.common.Location2D;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceType;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveOutcome;
+import strategy.game.version.MoveValidation;
+import strategy.game.version.SetupGenerator;
+import strategy.game.version.StrategyGameControllerImpl;
+import strategy.game.version.delta.DeltaStrategyGameController;
+import strategy.game.version.delta.MockDeltaStrategyGameController;
+import strategy.game.version.epsilon.EpsilonGames;
+
+/**
+ * @author Alex C
+ * 
+ */
+public class AlphaBetaSearchTest {
+	
+	private static final SetupGenerator DELTA_SETUPS = new SetupGenerator(DeltaStrategyGameController.SETUP_VALIDATOR);
+	
+	/**
+	 * A Delta game with only the given pieces on the board
+	 */
+	private static StrategyGameControllerImpl deltaGame(Map<Location, Piece> board) throws StrategyException {
+		final Random random = new Random(1);
+		final StrategyGameControllerImpl game = new MockDeltaStrategyGameController(
+				DELTA_SETUPS.nextSetup(random, PlayerColor.RED), DELTA_SETUPS.nextSetup(random, PlayerColor.BLUE), board);
+		game.startGame();
+		return game;
+	}
+	
+	/**
+	 * Plain minimax to the given depth, scored the same way as the search
+	 */
+	private static int minimax(StrategyGameControllerImpl game, Evaluator evaluator, int depth, int ply, PlayerColor color) {
+		if (depth == 0) {
+			return evaluator.evaluate(game, color);
+		}
+		final MoveBuffer moves = new MoveBuffer();
+		if (game.generateLegalMoves(color, moves) == 0) {
+			return -(AlphaBetaSearch.WIN_SCORE - ply);
+		}
+		final PlayerColor opponent = color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+		int best = Integer.MIN_VALUE;
+		for (int i = 0; i < moves.size(); i++) {
+			game.makeMove(moves.get(i));
+			final MoveResultStatus status = MoveOutcome.statusOf(game.getLastOutcome());
+			final int score;
+			if (status == MoveResultStatus.OK) {
+				score = -minimax(game, evaluator, depth - 1, ply + 1, opponent);
+			}
+			else if (status == MoveResultStatus.DRAW) {
+				score = 0;
+			}
+			else {
+				final boolean won = (status == MoveResultStatus.RED_WINS) == (color == PlayerColor.RED);
+				score = won ? AlphaBetaSearch.WIN_SCORE - ply - 1 : -(AlphaBetaSearch.WIN_SCORE - ply - 1);
+			}
+			game.unmakeMove();
+			best = Math.max(best, score);
+		}
+		return best;
+	}
+	
+	@Test
+	public void matchesMinimaxTest() throws StrategyException {
+		final Evaluator evaluator = new MaterialEvaluator();
+		for (long seed = 0; seed < 3; seed++) {
+			final StrategyGameControllerImpl game = EpsilonGames.start(new Random(seed));
+			final AlphaBetaSearch search = new AlphaBetaSearch(evaluator, new TranspositionTable(1));
+			search.setMaxDepth(3);
+			
+			final SearchResult result = search.search(game);
+			assertEquals(3, result.getDepth());
+			assertEquals(minimax(game, evaluator, 3, 0, PlayerColor.RED), result.getScore());
+		}
+	}
+	
+	@Test
+	public void searchLeavesGameUnchangedTest() throws StrategyException {
+		final StrategyGameControllerImpl game = EpsilonGames.start(new Random(42));
+		final long hash = game.positionHash();
+		final AlphaBetaSearch search = new AlphaBetaSearch(new MaterialEvaluator(), new TranspositionTable(1));
+		search.setNodeLimit(20000);
+		
+		final SearchResult result = search.search(game);
+		assertEquals(hash, game.positionHash());
+		assertEquals(0, game.getUndoDepth());
+		assertTrue(result.getNodes() <= 20000);
+		
+		// the principal variation is a line of legal moves starting with the best move
+		final int[] pv = result.getPrincipalVariation();
+		assertEquals(result.getBestMove(), pv[0]);
+		for (int move : pv) {
+			assertEquals(MoveValidation.OK, game.makeMove(move));
+		}
+	}
+	
+	@Test
+	public void nodeLimitIsDeterministicTest() throws StrategyException {
+		final SearchResult[] results = new SearchResult[2];
+		for (int i = 0; i < results.length; i++) {
+			final AlphaBetaSearch search = new AlphaBetaSearch(new MaterialEvaluator(), new TranspositionTable(1));
+			search.setNodeLimit(50000);
+			results[i] = search.search(EpsilonGames.start(new Random(7)));
+		}
+		final SearchResult first = results[0];
+		final SearchResult second = results[1];
+		
+		assertEquals(first.getBestMove(), second.getBestMove());
+		assertEquals(first.getScore(), second.getScore());
+		assertEquals(first.getNodes(), second.getNodes());
+		assertArrayEquals(first.getPrincipalVariation(), second.getPrincipalVariation());
+	}
+	
+	@Test
+	public void capturesFlagTest() throws StrategyException {
+		final Map<Location, Piece> board = new HashMap<Location, Piece>();
+		board.put(Location2D.of(0, 0), Piece.of(PieceType.FLAG, PlayerColor.RED));
+		board.put(Location2D.of(5, 5), Piece.of(PieceType.SERGEANT, PlayerColor.RED));
+		board.put(Location2D.of(9, 9), Piece.of(PieceType.MARSHAL, PlayerColor.BLUE));
+		board.put(Location2D.of(5, 7), Piece.of(PieceType.FLAG, PlayerColor.BLUE));
+		final StrategyGameControllerImpl game = deltaGame(board);
+		
+		final AlphaBetaSearch search = new AlphaBetaSearch(new MaterialEvaluator(), new TranspositionTable(1));
+		search.setMaxDepth(6);
+		final SearchResult result = search.search(game);
+		
+		// up, up and take the flag
+		assertEquals(AlphaBetaSearch.WIN_SCORE - 3, result.getScore());
+		assertEquals(MoveBuffer.encode(55, 65), result.getBestMove());
+		assertEquals(3, result.getPrincipalVariation().length);
+	}
+	
+	@Test
+	public void noLegalMoveTest() throws StrategyException {
+		final Map<Location, Piece> board = new HashMap<Location, Piece>();
+		board.put(Location2D.of(0, 0), Piece.of(PieceType.FLAG, PlayerColor.RED));
+		board.put(Location2D.of(1, 0), Piece.of(PieceType.BOMB, PlayerColor.RED));
+		board.put(Location2D.of(9, 9), Piece.of(PieceType.FLAG, PlayerColor.BLUE));
+		board.put(Location2D.of(9, 8), Piece.of(PieceType.SCOUT, PlayerColor.BLUE));
+		final StrategyGameControllerImpl game = deltaGame(board);
+		
+		final SearchResult result = new AlphaBetaSearch(new MaterialEvaluator(), new TranspositionTable(1)).search(game);
+		assertEquals(TranspositionTable.NO_MOVE, result.getBestMove());
+		assertEquals(-AlphaBetaSearch.WIN_SCORE, result.getScore());
+	}
+}
@@ -0,0 +1,159 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.MoveResult;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceType;
+import strategy.game.common.StrategyGameObserver;
+import strategy.game.version.BoardSpec;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.StrategyGameControllerImpl;
+import strategy.game.version.epsilon.EpsilonGames;
+
+/**
+ * @author Alex C
+ * 
+ */
+public class BeliefTrackerTest {
+	
+	private static final float EPSILON = 1e-4f;
+	
+	private static StrategyGameControllerImpl epsilonGame(Random random, BeliefTracker... trackers) 
+			throws StrategyException {
+		final Collection<StrategyGameObserver> observers = new ArrayList<StrategyGameObserver>();
+		for (BeliefTracker tracker : trackers) {
+			observers.add(tracker);
+		}
+		return EpsilonGames.start(random, observers);
+	}
+	
+	/**
+	 * Checks the tracker's beliefs against the real pieces and what both players know about them
+	 */
+	private static void checkBeliefs(StrategyGameControllerImpl game, BeliefTracker tracker) {
+		for (int i = 0; i < game.getBoardSpec().getNumSpaces(); i++) {
+			final Piece piece = game.getPieceAt(i);
+			if (piece == null || piece.getOwner() == null || piece.getOwner() == tracker.getViewer()) {
+				assertEquals(0, tracker.getProbability(i, PieceType.MARSHAL), 0);
+				continue;
+			}
+			
+			float sum = 0;
+			for (PieceType type : PieceType.values()) {
+				sum += tracker.getProbability(i, type);
+			}
+			assertEquals(1, sum, EPSILON);
+			assertTrue(tracker.getProbability(i, piece.getType()) > 0);
+			
+			final int knowledge = game.getKnowledge(i);
+			if ((knowledge & StrategyGameControllerImpl.KNOWN_REVEALED) != 0) {
+				assertEquals(1, tracker.getProbability(i, piece.getType()), EPSILON);
+				assertEquals(piece.getType(), tracker.getMostLikelyType(i));
+			}
+			if ((knowledge & StrategyGameControllerImpl.KNOWN_MOVED) != 0) {
+				assertEquals(0, tracker.getProbability(i, PieceType.BOMB), 0);
+				assertEquals(0, tracker.getProbability(i, PieceType.FLAG), 0);
+			}
+		}
+	}
+	
+	@Test
+	public void startFollowsSetupTableTest() throws StrategyException {
+		final BeliefTracker tracker = new BeliefTracker(PlayerColor.RED);
+		final StrategyGameControllerImpl game = epsilonGame(new Random(1), tracker);
+		checkBeliefs(game, tracker);
+		
+		// two flags in every setup, and one of the 41 other pieces in the table is left out
+		float marshals = 0, flags = 0;
+		for (int i = 60; i < 100; i++) {
+			assertEquals(2f / 40, tracker.getProbability(i, PieceType.FLAG), EPSILON);
+			flags += tracker.getProbability(i, PieceType.FLAG);
+			marshals += tracker.getProbability(i, PieceType.MARSHAL);
+		}
+		assertEquals(2, flags, EPSILON);
+		assertEquals(1 - 1f / 39, marshals, EPSILON);
+		assertEquals(PieceType.SCOUT, tracker.getMostLikelyType(60));
+		assertNull(tracker.getMostLikelyType(0));
+	}
+	
+	@Test
+	public void beliefsNeverRuleOutTheTruthTest() throws StrategyException {
+		final MoveBuffer moves = new MoveBuffer();
+		int numCertain = 0;
+		
+		for (long seed = 0; seed < 5; seed++) {
+			final Random random = new Random(seed);
+			final BeliefTracker red = new BeliefTracker(PlayerColor.RED);
+			final BeliefTracker blue = new BeliefTracker(PlayerColor.BLUE);
+			final StrategyGameControllerImpl game = epsilonGame(random, red, blue);
+			final BoardSpec spec = game.getBoardSpec();
+			
+			MoveResultStatus status = MoveResultStatus.OK;
+			for (int i = 0; i < 400 && status == MoveResultStatus.OK
+					&& game.generateLegalMoves(game.getPlayerToMove(), moves) > 0; i++) {
+				final int move = moves.get(random.nextInt(moves.size()));
+				final int from = MoveBuffer.fromOf(move);
+				final MoveResult result = game.move(game.getPieceAt(from).getType(), spec.getLocation(from), 
+						spec.getLocation(MoveBuffer.toOf(move)));
+				status = result.getStatus();
+				
+				checkBeliefs(game, red);
+				checkBeliefs(game, blue);
+			}
+			
+			for (int i = 0; i < spec.getNumSpaces(); i++) {
+				if (red.getProbability(i, red.getMostLikelyType(i) == null ? PieceType.FLAG 
+						: red.getMostLikelyType(i)) > 1 - EPSILON) {
+					numCertain++;
+				}
+			}
+		}
+		assertTrue(numCertain > 0);
+	}
+	
+	@Test
+	public void battleShowsTheWinnerTest() throws StrategyException {
+		final BeliefTracker tracker = new BeliefTracker(PlayerColor.BLUE);
+		final StrategyGameControllerImpl game = epsilonGame(new Random(4), tracker);
+		final BoardSpec spec = game.getBoardSpec();
+		final MoveBuffer moves = new MoveBuffer();
+		final Random random = new Random(4);
+		
+		// play until a red piece attacks a blue one and wins
+		for (int i = 0; i < 2000; i++) {
+			if (game.generateLegalMoves(game.getPlayerToMove(), moves) == 0) {
+				break;
+			}
+			final int move = moves.get(random.nextInt(moves.size()));
+			final int from = MoveBuffer.fromOf(move), to = MoveBuffer.toOf(move);
+			final Piece attacker = game.getPieceAt(from);
+			final Piece defender = game.getPieceAt(to);
+			final MoveResult result = game.move(attacker.getType(), spec.getLocation(from), spec.getLocation(to));
+			if (result.getStatus() != MoveResultStatus.OK) {
+				break;
+			}
+			
+			if (attacker.getOwner() == PlayerColor.RED && defender != null && result.getBattleWinner() != null
+					&& result.getBattleWinner().getPiece().getOwner() == PlayerColor.RED) {
+				// the winner is shown to blue, and having attacked it was never a bomb
+				assertEquals(1, tracker.getProbability(to, attacker.getType()), EPSILON);
+				assertEquals(0, tracker.getProbability(to, PieceType.BOMB), 0);
+				return;
+			}
+		}
+		fail("no battle won by red");
+	}
+}
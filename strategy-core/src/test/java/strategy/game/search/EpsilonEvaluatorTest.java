@@ -0,0 +1,124 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.Location;
+import strategy.game.common.Location2D;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceType;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveOutcome;
+import strategy.game.version.StrategyGameControllerImpl;
+import strategy.game.version.epsilon.EpsilonGames;
+import strategy.game.version.epsilon.MockEpsilonStrategyGameController;
+
+/**
+ * @author Alex C
+ * 
+ */
+public class EpsilonEvaluatorTest {
+	
+	private static StrategyGameControllerImpl mockGame(Map<Location, Piece> board) throws StrategyException {
+		final Random random = new Random(0);
+		return new MockEpsilonStrategyGameController(EpsilonGames.SETUPS.nextSetup(random, PlayerColor.RED), 
+				EpsilonGames.SETUPS.nextSetup(random, PlayerColor.BLUE), null, board);
+	}
+	
+	private static void checkMatchesScratch(StrategyGameControllerImpl game, EpsilonEvaluator attached) {
+		final int expected = new EpsilonEvaluator().evaluate(game, PlayerColor.RED);
+		assertEquals(expected, attached.evaluate(game, PlayerColor.RED));
+		assertEquals(-expected, attached.evaluate(game, PlayerColor.BLUE));
+	}
+	
+	@Test
+	public void incrementalMatchesScratchTest() throws StrategyException {
+		final MoveBuffer moves = new MoveBuffer();
+		
+		for (long seed = 0; seed < 5; seed++) {
+			final Random random = new Random(seed);
+			final StrategyGameControllerImpl game = EpsilonGames.start(random);
+			final StrategyGameControllerImpl start = game.copy();
+			final EpsilonEvaluator evaluator = new EpsilonEvaluator();
+			assertNull(game.setBoardListener(evaluator));
+			checkMatchesScratch(game, evaluator);
+			
+			// moves, battles and taking moves back all reach the evaluator
+			for (int i = 0; i < 300 && game.generateLegalMoves(game.getPlayerToMove(), moves) > 0; i++) {
+				if (game.getUndoDepth() > 0 && random.nextInt(4) == 0) {
+					game.unmakeMove();
+				}
+				else {
+					game.makeMove(moves.get(random.nextInt(moves.size())));
+					if (MoveOutcome.statusOf(game.getLastOutcome()) != MoveResultStatus.OK) {
+						game.unmakeMove();
+					}
+				}
+				checkMatchesScratch(game, evaluator);
+			}
+			
+			game.copyFrom(start);
+			checkMatchesScratch(game, evaluator);
+			assertNull(game.copy().getBoardListener());
+		}
+	}
+	
+	@Test
+	public void lastFlagIsWorthMoreTest() throws StrategyException {
+		final Map<Location, Piece> board = new HashMap<Location, Piece>();
+		board.put(new Location2D(0, 0), Piece.of(PieceType.FLAG, PlayerColor.RED));
+		board.put(new Location2D(5, 0), Piece.of(PieceType.FLAG, PlayerColor.RED));
+		board.put(new Location2D(0, 9), Piece.of(PieceType.FLAG, PlayerColor.BLUE));
+		board.put(new Location2D(5, 9), Piece.of(PieceType.FLAG, PlayerColor.BLUE));
+		final EpsilonEvaluator evaluator = new EpsilonEvaluator();
+		assertEquals(0, evaluator.evaluate(mockGame(board), PlayerColor.RED));
+		
+		board.remove(new Location2D(5, 0));
+		final int oneFlag = evaluator.evaluate(mockGame(board), PlayerColor.RED);
+		board.remove(new Location2D(0, 0));
+		final int noFlag = evaluator.evaluate(mockGame(board), PlayerColor.RED);
+		assertTrue(oneFlag < 0);
+		assertTrue(noFlag - oneFlag < oneFlag);
+		
+		// a bomb next to the last flag counts for more than next to one of two
+		board.put(new Location2D(0, 0), Piece.of(PieceType.FLAG, PlayerColor.RED));
+		board.put(new Location2D(1, 0), Piece.of(PieceType.BOMB, PlayerColor.RED));
+		final int guardedLast = evaluator.evaluate(mockGame(board), PlayerColor.RED);
+		board.put(new Location2D(5, 0), Piece.of(PieceType.FLAG, PlayerColor.RED));
+		final int guardedSpare = evaluator.evaluate(mockGame(board), PlayerColor.RED);
+		board.remove(new Location2D(1, 0));
+		assertTrue(guardedLast - oneFlag > guardedSpare - evaluator.evaluate(mockGame(board), PlayerColor.RED));
+	}
+	
+	@Test
+	public void searchFollowsTheBoardTest() throws StrategyException {
+		final StrategyGameControllerImpl game = EpsilonGames.start(new Random(9));
+		final long hash = game.positionHash();
+		final AlphaBetaSearch incremental = new AlphaBetaSearch(new EpsilonEvaluator(), new TranspositionTable(1));
+		incremental.setMaxDepth(3);
+		
+		// the same evaluator scoring every leaf from scratch
+		final EpsilonEvaluator fromScratch = new EpsilonEvaluator();
+		final AlphaBetaSearch scanning = new AlphaBetaSearch((g, color) -> fromScratch.evaluate(g, color),
+				new TranspositionTable(1));
+		scanning.setMaxDepth(3);
+		
+		final SearchResult result = incremental.search(game);
+		assertEquals(hash, game.positionHash());
+		assertNull(game.getBoardListener());
+		final SearchResult expected = scanning.search(game);
+		assertEquals(expected.getBestMove(), result.getBestMove());
+		assertEquals(expected.getScore(), result.getScore());
+	}
+}
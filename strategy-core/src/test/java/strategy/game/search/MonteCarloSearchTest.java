@@ -0,0 +1,193 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.Location;
+import strategy.game.common.Location2D;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceType;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveOutcome;
+import strategy.game.version.SetupGenerator;
+import strategy.game.version.StrategyGameControllerImpl;
+import strategy.game.version.delta.DeltaStrategyGameController;
+import strategy.game.version.delta.MockDeltaStrategyGameController;
+import strategy.game.version.epsilon.EpsilonGames;
+
+/**
+ * @author Alex C
+ * 
+ */
+public class MonteCarloSearchTest {
+	
+	private static final SetupGenerator DELTA_SETUPS = new SetupGenerator(DeltaStrategyGameController.SETUP_VALIDATOR);
+	
+	/**
+	 * An Epsilon game after the given number of random moves
+	 */
+	private static StrategyGameControllerImpl epsilonGame(long seed, int numMoves) throws StrategyException {
+		final Random random = new Random(seed);
+		final StrategyGameControllerImpl game = EpsilonGames.start(random);
+		final MoveBuffer moves = new MoveBuffer();
+		for (int i = 0; i < numMoves && game.generateLegalMoves(game.getPlayerToMove(), moves) > 0; i++) {
+			game.makeMove(moves.get(random.nextInt(moves.size())));
+			assertEquals(MoveResultStatus.OK, MoveOutcome.statusOf(game.getLastOutcome()));
+		}
+		return game;
+	}
+	
+	@Test
+	public void dealsAgreeWithKnowledgeTest() throws StrategyException {
+		final StrategyGameControllerImpl game = epsilonGame(11, 60);
+		final PlayerColor viewer = game.getPlayerToMove();
+		final Determinizer determinizer = new Determinizer(game, viewer);
+		final StrategyGameControllerImpl copy = game.copy();
+		final Random random = new Random(3);
+		
+		boolean changed = false;
+		for (int deal = 0; deal < 50; deal++) {
+			determinizer.determinize(copy, random);
+			for (int i = 0; i < 100; i++) {
+				final Piece real = game.getPieceAt(i);
+				final Piece dealt = copy.getPieceAt(i);
+				if (real == null || real.getOwner() != PlayerColor.RED && real.getOwner() != PlayerColor.BLUE) {
+					assertEquals(real, dealt);
+					continue;
+				}
+				assertEquals(real.getOwner(), dealt.getOwner());
+				
+				final int knowledge = game.getKnowledge(i);
+				if (real.getOwner() == viewer || (knowledge & StrategyGameControllerImpl.KNOWN_REVEALED) != 0) {
+					assertEquals(real, dealt);
+				}
+				else if ((knowledge & StrategyGameControllerImpl.KNOWN_MOVED) != 0) {
+					assertNotEquals(PieceType.BOMB, dealt.getType());
+					assertNotEquals(PieceType.FLAG, dealt.getType());
+				}
+				changed |= !real.equals(dealt);
+			}
+			for (PieceType type : PieceType.values()) {
+				for (PlayerColor color : PlayerColor.values()) {
+					assertEquals(game.getPieceCount(color, type), copy.getPieceCount(color, type));
+				}
+			}
+		}
+		assertTrue(changed);
+		assertTrue(determinizer.getNumHidden() > 0);
+	}
+	
+	@Test
+	public void dealtPieceMovedLastTest() throws StrategyException {
+		final StrategyGameControllerImpl game = EpsilonGames.start(new Random(5));
+		final int redStep = EpsilonGames.firstStep(game, PlayerColor.RED, null);
+		game.makeMove(redStep);
+		final int blueStep = EpsilonGames.firstStep(game, PlayerColor.BLUE, null);
+		final int from = MoveBuffer.fromOf(blueStep), to = MoveBuffer.toOf(blueStep);
+		game.makeMove(blueStep);
+		game.makeMove(MoveBuffer.encode(MoveBuffer.toOf(redStep), MoveBuffer.fromOf(redStep)));
+		game.makeMove(MoveBuffer.encode(to, from));
+		game.makeMove(EpsilonGames.firstStep(game, PlayerColor.RED, null));
+		
+		// blue moved the same piece back and forth, so it may not step out again
+		final MoveBuffer moves = new MoveBuffer();
+		assertTrue(game.generateLegalMoves(PlayerColor.BLUE, moves) > 0);
+		assertFalse(moves.contains(from, to));
+		
+		// whatever red deals out on that cell moved last, so the rule holds for it as well
+		final Determinizer determinizer = new Determinizer(game, PlayerColor.RED);
+		final StrategyGameControllerImpl copy = game.copy();
+		final Random random = new Random(6);
+		int numDifferent = 0;
+		for (int deal = 0; deal < 20; deal++) {
+			determinizer.determinize(copy, random);
+			if (!copy.getPieceAt(from).equals(game.getPieceAt(from))) {
+				numDifferent++;
+			}
+			assertTrue(copy.generateLegalMoves(PlayerColor.BLUE, moves) > 0);
+			assertFalse(moves.contains(from, to));
+		}
+		assertTrue(numDifferent > 0);
+	}
+	
+	@Test
+	public void oneThreadIsDeterministicTest() throws StrategyException {
+		final StrategyGameControllerImpl game = epsilonGame(4, 10);
+		final long hash = game.positionHash();
+		final MonteCarloResult[] results = new MonteCarloResult[2];
+		for (int i = 0; i < results.length; i++) {
+			final MonteCarloSearch search = new MonteCarloSearch(MaterialEvaluator::new, 1);
+			search.setPlayoutLimit(300);
+			search.setPlayoutLength(40);
+			search.setSeed(99);
+			results[i] = search.search(game);
+		}
+		
+		assertEquals(hash, game.positionHash());
+		assertEquals(results[0].getBestMove(), results[1].getBestMove());
+		assertEquals(results[0].getVisits(), results[1].getVisits());
+		assertEquals(results[0].getWinRate(), results[1].getWinRate(), 0);
+		assertEquals(300, results[0].getPlayouts());
+		
+		final MoveBuffer moves = new MoveBuffer();
+		game.generateLegalMoves(game.getPlayerToMove(), moves);
+		final int best = results[0].getBestMove();
+		assertTrue(moves.contains(MoveBuffer.fromOf(best), MoveBuffer.toOf(best)));
+	}
+	
+	@Test
+	public void rootParallelismAddsUpTest() throws StrategyException {
+		final StrategyGameControllerImpl game = epsilonGame(8, 0);
+		final MonteCarloSearch search = new MonteCarloSearch(MaterialEvaluator::new, 3);
+		search.setPlayoutLimit(200);
+		search.setPlayoutLength(30);
+		try {
+			final MonteCarloResult result = search.search(game);
+			assertEquals(3, result.getNumThreads());
+			for (int thread = 0; thread < 3; thread++) {
+				assertEquals(200, result.getThreadPlayouts(thread));
+			}
+			assertEquals(600, result.getPlayouts());
+			assertTrue(result.getVisits() > 0);
+			assertTrue(result.getPlayoutsPerSecond() > 0);
+		}
+		finally {
+			search.shutdown();
+		}
+	}
+	
+	@Test
+	public void findsTheOnlyPossibleFlagTest() throws StrategyException {
+		final Map<Location, Piece> board = new HashMap<Location, Piece>();
+		board.put(Location2D.of(0, 0), Piece.of(PieceType.FLAG, PlayerColor.RED));
+		board.put(Location2D.of(5, 5), Piece.of(PieceType.SERGEANT, PlayerColor.RED));
+		board.put(Location2D.of(2, 2), Piece.of(PieceType.MINER, PlayerColor.RED));
+		board.put(Location2D.of(5, 6), Piece.of(PieceType.FLAG, PlayerColor.BLUE));
+		board.put(Location2D.of(9, 9), Piece.of(PieceType.SCOUT, PlayerColor.BLUE));
+		final Random random = new Random(1);
+		final StrategyGameControllerImpl game = new MockDeltaStrategyGameController(
+				DELTA_SETUPS.nextSetup(random, PlayerColor.RED), DELTA_SETUPS.nextSetup(random, PlayerColor.BLUE), board);
+		game.startGame();
+		
+		// once the scout has moved, the piece next to the sergeant has to be the flag
+		game.makeMove(MoveBuffer.encode(22, 23));
+		game.makeMove(MoveBuffer.encode(99, 98));
+		final MonteCarloSearch search = new MonteCarloSearch(MaterialEvaluator::new, 1);
+		search.setPlayoutLimit(2000);
+		final MonteCarloResult result = search.search(game);
+		
+		assertEquals(MoveBuffer.encode(55, 65), result.getBestMove());
+		assertEquals(1.0, result.getWinRate(), 0);
+	}
+}
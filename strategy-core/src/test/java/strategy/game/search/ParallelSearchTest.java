@@ -0,0 +1,77 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.StrategyGameControllerImpl;
+import strategy.game.version.epsilon.EpsilonGames;
+
+/**
+ * @author Alex C
+ * 
+ */
+public class ParallelSearchTest {
+	
+	@Test
+	public void oneThreadMatchesAlphaBetaTest() throws StrategyException {
+		final AlphaBetaSearch single = new AlphaBetaSearch(new MaterialEvaluator(), new TranspositionTable(1));
+		single.setNodeLimit(50000);
+		final SearchResult expected = single.search(EpsilonGames.start(new Random(7)));
+		
+		for (int run = 0; run < 2; run++) {
+			final ParallelSearch parallel = new ParallelSearch(MaterialEvaluator::new, new TranspositionTable(1), 1);
+			parallel.setNodeLimit(50000);
+			final SearchResult result = parallel.search(EpsilonGames.start(new Random(7)));
+			
+			assertEquals(expected.getBestMove(), result.getBestMove());
+			assertEquals(expected.getScore(), result.getScore());
+			assertEquals(expected.getNodes(), result.getNodes());
+			assertArrayEquals(expected.getPrincipalVariation(), result.getPrincipalVariation());
+			assertEquals(1, result.getNumThreads());
+			assertEquals(result.getNodes(), result.getThreadNodes(0));
+		}
+	}
+	
+	@Test
+	public void helpersShareTheWorkTest() throws StrategyException {
+		final StrategyGameControllerImpl game = EpsilonGames.start(new Random(3));
+		final long hash = game.positionHash();
+		final ParallelSearch parallel = new ParallelSearch(MaterialEvaluator::new, new TranspositionTable(4), 4);
+		parallel.setMaxDepth(5);
+		
+		try {
+			final SearchResult result = parallel.search(game);
+			assertEquals(hash, game.positionHash());
+			assertEquals(0, game.getUndoDepth());
+			assertEquals(5, result.getDepth());
+			
+			assertEquals(4, result.getNumThreads());
+			long total = 0;
+			for (int thread = 0; thread < 4; thread++) {
+				total += result.getThreadNodes(thread);
+				assertTrue(result.getThreadNodesPerSecond(thread) >= 0);
+			}
+			assertEquals(total, result.getNodes());
+			assertTrue(result.getThreadNodes(0) > 0);
+			
+			final MoveBuffer moves = new MoveBuffer();
+			game.generateLegalMoves(PlayerColor.RED, moves);
+			assertTrue(moves.contains(MoveBuffer.fromOf(result.getBestMove()), MoveBuffer.toOf(result.getBestMove())));
+			
+			// the same search object can search again
+			assertEquals(5, parallel.search(game).getDepth());
+		}
+		finally {
+			parallel.shutdown();
+		}
+	}
+}
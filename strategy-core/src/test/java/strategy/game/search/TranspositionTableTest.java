@@ -0,0 +1,132 @@
+/**
+ * 
+ */
+package strategy.game.search;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import strategy.game.version.MoveBuffer;
+
+/**
+ * @author Alex C
+ *
+ */
+public class TranspositionTableTest {
+	
+	private TranspositionTable table;
+	
+	@Before
+	public void setup() {
+		table = new TranspositionTable(1);
+	}
+	
+	@Test
+	public void capacityIsPowerOfTwoTest() {
+		assertEquals(65536, table.capacity());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void tooLargeTableIsRejectedTest() {
+		new TranspositionTable(TranspositionTable.MAX_MEGABYTES * 2);
+	}
+	
+	@Test
+	public void missOnEmptyTableTest() {
+		assertEquals(0, table.probe(12345L));
+		assertEquals(TranspositionTable.BOUND_NONE, TranspositionTable.bound(0));
+		assertEquals(1, table.getProbes());
+		assertEquals(0, table.getHits());
+		assertEquals(0, table.getCollisions());
+	}
+	
+	@Test
+	public void storeAndProbeTest() {
+		final int move = MoveBuffer.encode(87, 77);
+		table.store(0xDEADBEEFL, -1234, 7, TranspositionTable.BOUND_LOWER, move);
+		final long data = table.probe(0xDEADBEEFL);
+		
+		assertEquals(-1234, TranspositionTable.score(data));
+		assertEquals(7, TranspositionTable.depth(data));
+		assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.bound(data));
+		assertEquals(move, TranspositionTable.move(data));
+		assertEquals(1, table.getHits());
+		assertEquals(1.0, table.getHitRate(), 0.0);
+	}
+	
+	@Test
+	public void storeWithoutMoveKeepsOldMoveTest() {
+		final int move = MoveBuffer.encode(1, 2);
+		table.store(42L, 10, 1, TranspositionTable.BOUND_EXACT, move);
+		table.store(42L, 20, 2, TranspositionTable.BOUND_UPPER, TranspositionTable.NO_MOVE);
+		final long data = table.probe(42L);
+		
+		assertEquals(20, TranspositionTable.score(data));
+		assertEquals(move, TranspositionTable.move(data));
+	}
+	
+	@Test
+	public void collisionKeepsDeeperEntryTest() {
+		final long first = 5L;
+		final long second = 5L + ((long) table.capacity() << 32) * 2;
+		table.store(first, 1, 10, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+		table.store(second, 2, 3, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+		
+		assertEquals(0, table.probe(second));
+		assertEquals(1, table.getCollisions());
+		assertEquals(10, TranspositionTable.depth(table.probe(first)));
+		
+		// a new search is allowed to replace entries of the old one
+		table.newSearch();
+		table.store(second, 2, 3, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+		assertEquals(3, TranspositionTable.depth(table.probe(second)));
+		assertEquals(0, table.probe(first));
+	}
+	
+	@Test
+	public void clearTest() {
+		table.store(42L, 10, 1, TranspositionTable.BOUND_EXACT, TranspositionTable.NO_MOVE);
+		table.probe(42L);
+		table.clear();
+		
+		assertEquals(0, table.getProbes());
+		assertEquals(0, table.getStores());
+		assertEquals(0, table.probe(42L));
+	}
+	
+	@Test
+	public void concurrentAccessNeverReturnsWrongEntryTest() throws InterruptedException {
+		final TranspositionTable small = new TranspositionTable(1);
+		final Thread[] threads = new Thread[4];
+		final boolean[] failed = new boolean[1];
+		
+		for (int t = 0; t < threads.length; t++) {
+			final long seed = t;
+			threads[t] = new Thread() {
+				public void run() {
+					final Random random = new Random(seed);
+					for (int i = 0; i < 200000; i++) {
+						// a few keys that all land in the same handful of slots
+						final long key = random.nextInt(64) * 0x9E3779B97F4A7C15L;
+						small.store(key, (int) key, (int) (key & 0x7F), TranspositionTable.BOUND_EXACT, 
+								TranspositionTable.NO_MOVE);
+						final long data = small.probe(key);
+						if (data != 0 && (TranspositionTable.score(data) != (int) key 
+								|| TranspositionTable.depth(data) != (int) (key & 0x7F))) {
+							failed[0] = true;
+						}
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertFalse(failed[0]);
+	}
+}
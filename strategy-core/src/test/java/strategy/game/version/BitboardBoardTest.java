@@ -0,0 +1,184 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceType;
+
+/**
+ * @author Alex C
+ *
+ */
+public class BitboardBoardTest {
+	
+	private static final int SIZE = 10;
+	
+	private BitboardBoard board;
+	private BitboardMasks masks;
+	
+	@Before
+	public void setup() {
+		board = new BitboardBoard(SIZE, SIZE);
+		masks = board.getMasks();
+	}
+	
+	/**
+	 * Fills roughly a third of the board with random pieces and choke points
+	 */
+	private void fillRandomly(Random random) {
+		board.clear();
+		for (int i = 0; i < board.size(); i++) {
+			final int roll = random.nextInt(9);
+			if (roll == 0) {
+				board.setPieceAt(i, new Piece(PieceType.CHOKE_POINT, null));
+			}
+			else if (roll < 3) {
+				board.setPieceAt(i, new Piece(PieceType.SCOUT, roll == 1 ? PlayerColor.RED : PlayerColor.BLUE));
+			}
+		}
+	}
+	
+	private static boolean contains(long low, long high, int cell) {
+		return cell < 64 ? (low & (1L << cell)) != 0 : (high & (1L << (cell - 64))) != 0;
+	}
+	
+	@Test
+	public void masksAreSharedPerSizeTest() {
+		assertSame(masks, BitboardMasks.forSize(SIZE, SIZE));
+		assertNotSame(masks, BitboardMasks.forSize(6, 6));
+	}
+	
+	@Test
+	public void setsFollowCellsTest() {
+		final Piece redScout = new Piece(PieceType.SCOUT, PlayerColor.RED);
+		board.setPieceAt(70, redScout);
+		board.setPieceAt(3, redScout);
+		
+		assertEquals(1L << 3, board.piecesLow(redScout));
+		assertEquals(1L << 6, board.piecesHigh(redScout));
+		assertEquals(1L << 6, board.colorHigh(PlayerColor.RED));
+		assertEquals(0, board.colorLow(PlayerColor.BLUE));
+		
+		board.setPieceAt(70, null);
+		assertEquals(0, board.occupiedHigh());
+		assertEquals(1L << 3, board.occupiedLow());
+		
+		board.clear();
+		assertEquals(0, board.occupiedLow());
+		assertEquals(0, board.piecesLow(redScout));
+	}
+	
+	@Test
+	public void pathBlockedMatchesCellLoopTest() {
+		final Random random = new Random(4233);
+		for (int round = 0; round < 20; round++) {
+			fillRandomly(random);
+			for (int from = 0; from < board.size(); from++) {
+				for (int to = 0; to < board.size(); to++) {
+					if (from % SIZE != to % SIZE && from / SIZE != to / SIZE) {
+						continue;
+					}
+					int step = from % SIZE == to % SIZE ? SIZE : 1;
+					if (to < from) {
+						step = -step;
+					}
+					boolean blocked = false;
+					for (int i = from + step; from != to && i != to; i += step) {
+						blocked |= !board.isEmpty(i);
+					}
+					assertEquals(blocked, board.isPathBlocked(from, to));
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void emptyRayStopsAtFirstPieceTest() {
+		final Random random = new Random(17);
+		for (int round = 0; round < 20; round++) {
+			fillRandomly(random);
+			for (int from = 0; from < board.size(); from++) {
+				for (int direction = BitboardMasks.WEST; direction <= BitboardMasks.NORTH; direction++) {
+					final long low = board.emptyRayLow(from, direction);
+					final long high = board.emptyRayHigh(from, direction);
+					
+					int cell = from;
+					int blocker = -1;
+					int numEmpty = 0;
+					while (masks.isStepOnBoard(cell, direction)) {
+						cell += masks.step(direction);
+						if (!board.isEmpty(cell)) {
+							blocker = cell;
+							break;
+						}
+						assertTrue(contains(low, high, cell));
+						numEmpty++;
+					}
+					assertEquals(numEmpty, Long.bitCount(low) + Long.bitCount(high));
+					assertEquals(blocker, board.nearestBlocker(from, direction));
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void enemyNeighboursTest() {
+		board.setPieceAt(55, new Piece(PieceType.MARSHAL, PlayerColor.RED));
+		board.setPieceAt(65, new Piece(PieceType.SPY, PlayerColor.BLUE));
+		board.setPieceAt(54, new Piece(PieceType.BOMB, PlayerColor.RED));
+		board.setPieceAt(66, new Piece(PieceType.BOMB, PlayerColor.BLUE));
+		
+		assertTrue(board.hasEnemyNeighbour(55, PlayerColor.RED));
+		assertEquals(0, board.enemyNeighboursLow(55, PlayerColor.RED));
+		assertEquals(1L << 1, board.enemyNeighboursHigh(55, PlayerColor.RED));
+		assertFalse(board.hasEnemyNeighbour(54, PlayerColor.RED));
+		assertEquals(1L << 55, board.enemyNeighboursLow(65, PlayerColor.BLUE));
+		assertFalse(board.hasEnemyNeighbour(66, PlayerColor.BLUE));
+	}
+	
+	@Test
+	public void pieceListsFollowCellsTest() {
+		final Random random = new Random(902);
+		final Piece[] pieces = {
+				null,
+				new Piece(PieceType.CHOKE_POINT, null),
+				new Piece(PieceType.SERGEANT, PlayerColor.RED),
+				new Piece(PieceType.FLAG, PlayerColor.RED),
+				new Piece(PieceType.SERGEANT, PlayerColor.BLUE),
+				new Piece(PieceType.BOMB, PlayerColor.BLUE)
+		};
+		for (int round = 0; round < 2000; round++) {
+			board.setPieceAt(random.nextInt(board.size()), pieces[random.nextInt(pieces.length)]);
+			
+			for (PlayerColor color : PlayerColor.values()) {
+				final boolean[] listed = new boolean[board.size()];
+				for (int i = 0; i < board.getPieceCount(color); i++) {
+					final int cell = board.getPieceCell(color, i);
+					assertFalse(listed[cell]);
+					listed[cell] = true;
+				}
+				for (int cell = 0; cell < board.size(); cell++) {
+					final Piece piece = board.getPieceAt(cell);
+					assertEquals(piece != null && piece.getOwner() == color, listed[cell]);
+				}
+			}
+		}
+		
+		final int[] visited = new int[1];
+		board.forEachPiece(PlayerColor.RED, cell -> visited[0]++);
+		assertEquals(board.getPieceCount(PlayerColor.RED), visited[0]);
+		
+		board.clear();
+		assertEquals(0, board.getPieceCount(PlayerColor.RED));
+		assertEquals(0, board.getPieceCount(PlayerColor.BLUE));
+	}
+}
@@ -0,0 +1,136 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.Location2D;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.version.epsilon.EpsilonGames;
+
+/**
+ * @author Alex C
+ * 
+ */
+public class PlayerViewTest {
+	
+	private static StrategyGameControllerImpl epsilonGame(long redSeed, long blueSeed) throws StrategyException {
+		return EpsilonGames.start(EpsilonGames.SETUPS.nextSetup(new Random(redSeed), PlayerColor.RED), 
+				EpsilonGames.SETUPS.nextSetup(new Random(blueSeed), PlayerColor.BLUE), null);
+	}
+	
+	/**
+	 * @return the same pieces as the setup on the same locations, in a different order
+	 */
+	private static Collection<PieceLocationDescriptor> shuffle(Collection<PieceLocationDescriptor> setup, 
+			Random random) {
+		final List<Piece> pieces = new ArrayList<Piece>();
+		for (PieceLocationDescriptor descriptor : setup) {
+			pieces.add(descriptor.getPiece());
+		}
+		Collections.shuffle(pieces, random);
+		
+		final Collection<PieceLocationDescriptor> shuffled = new ArrayList<PieceLocationDescriptor>();
+		for (PieceLocationDescriptor descriptor : setup) {
+			shuffled.add(new PieceLocationDescriptor(pieces.remove(pieces.size() - 1), descriptor.getLocation()));
+		}
+		return shuffled;
+	}
+	
+	/**
+	 * Checks every cell of a view against the game it looks at
+	 * @return the number of enemy pieces the viewer knows
+	 */
+	private static int checkView(StrategyGameControllerImpl game, PlayerView view) {
+		int numRevealed = 0;
+		for (int i = 0; i < game.getBoardSpec().getNumSpaces(); i++) {
+			final Piece piece = game.getPieceAt(i);
+			final boolean enemy = piece != null && piece.getOwner() != null && piece.getOwner() != view.getViewer();
+			final boolean revealed = (game.getKnowledge(i) & StrategyGameControllerImpl.KNOWN_REVEALED) != 0;
+			
+			assertEquals(piece == null ? null : piece.getOwner(), view.getOwnerAt(i));
+			assertEquals(enemy && !revealed, view.isUnknownEnemy(i));
+			assertEquals(enemy && !revealed ? null : piece, view.getPieceAt(i));
+			assertEquals(view.getPieceAt(i), view.getPieceAt(game.getBoardSpec().getLocation(i)));
+			if (enemy && revealed) {
+				numRevealed++;
+			}
+		}
+		return numRevealed;
+	}
+	
+	@Test
+	public void startHidesEveryEnemyTest() throws StrategyException {
+		final StrategyGameControllerImpl game = epsilonGame(1, 1);
+		final PlayerView red = new PlayerView(game, PlayerColor.RED);
+		
+		assertEquals(0, checkView(game, red));
+		for (int i = 0; i < game.getBoardSpec().getNumSpaces(); i++) {
+			if (game.getPieceAt(i) != null && game.getPieceAt(i).getOwner() == PlayerColor.BLUE) {
+				assertNull(red.getPieceAt(i));
+				assertFalse(red.hasMoved(i));
+			}
+		}
+		assertEquals(Piece.of(PieceType.CHOKE_POINT, null), red.getPieceAt(42));
+		assertNull(red.getPieceAt(new Location2D(10, 0)));
+	}
+	
+	@Test
+	public void viewFollowsBattlesTest() throws StrategyException {
+		final StrategyGameControllerImpl game = epsilonGame(3, 4);
+		final PlayerView red = new PlayerView(game, PlayerColor.RED);
+		final PlayerView blue = new PlayerView(game, PlayerColor.BLUE);
+		final PlayoutKernel kernel = new PlayoutKernel(5);
+		
+		int numRevealed = 0;
+		for (int i = 0; i < 20 && game.getPlayerToMove() != null; i++) {
+			kernel.playout(game, 10);
+			numRevealed += checkView(game, red) + checkView(game, blue);
+		}
+		assertTrue(numRevealed > 0);
+	}
+	
+	@Test
+	public void copyGameHidesTheSetupTest() throws StrategyException {
+		final Collection<PieceLocationDescriptor> redSetup = EpsilonGames.SETUPS.nextSetup(new Random(7), PlayerColor.RED);
+		final Collection<PieceLocationDescriptor> blueSetup = EpsilonGames.SETUPS.nextSetup(new Random(8), PlayerColor.BLUE);
+		final StrategyGameControllerImpl game = EpsilonGames.start(redSetup, blueSetup, null);
+		final StrategyGameControllerImpl other = EpsilonGames.start(redSetup, shuffle(blueSetup, new Random(9)), null);
+		assertNotEquals(game.positionHash(), other.positionHash());
+		
+		// red cannot tell the two blue setups apart, so the copies are the same
+		final StrategyGameControllerImpl copy = new PlayerView(game, PlayerColor.RED).copyGame();
+		assertEquals(copy.positionHash(), new PlayerView(other, PlayerColor.RED).copyGame().positionHash());
+		for (PieceType type : PieceType.values()) {
+			assertEquals(game.getPieceCount(PlayerColor.BLUE, type), copy.getPieceCount(PlayerColor.BLUE, type));
+		}
+		
+		// blue still sees its own setup
+		assertNotEquals(new PlayerView(game, PlayerColor.BLUE).copyGame().positionHash(), 
+				new PlayerView(other, PlayerColor.BLUE).copyGame().positionHash());
+		
+		// nor can red tell which piece blue just moved one space, which the repetition rule remembers
+		final int redMove = EpsilonGames.firstStep(game, PlayerColor.RED, null);
+		game.makeMove(redMove);
+		other.makeMove(redMove);
+		final int blueMove = EpsilonGames.firstStep(game, PlayerColor.BLUE, other);
+		game.makeMove(blueMove);
+		other.makeMove(blueMove);
+		assertTrue(new PlayerView(game, PlayerColor.RED).isUnknownEnemy(MoveBuffer.toOf(blueMove)));
+		assertEquals(new PlayerView(game, PlayerColor.RED).copyGame().positionHash(), 
+				new PlayerView(other, PlayerColor.RED).copyGame().positionHash());
+	}
+}
@@ -0,0 +1,141 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.MoveResult;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.version.delta.DeltaStrategyGameController;
+import strategy.game.version.epsilon.EpsilonGames;
+import strategy.game.version.gamma.GammaStrategyGameController;
+
+/**
+ * @author Alex C
+ * 
+ */
+public class PlayoutKernelTest {
+	
+	private static final SetupGenerator GAMMA_SETUPS = new SetupGenerator(GammaStrategyGameController.SETUP_VALIDATOR);
+	private static final SetupGenerator DELTA_SETUPS = new SetupGenerator(DeltaStrategyGameController.SETUP_VALIDATOR);
+	
+	private static StrategyGameControllerImpl gammaGame(Random random) throws StrategyException {
+		final StrategyGameControllerImpl game = new GammaStrategyGameController(
+				GAMMA_SETUPS.nextSetup(random, PlayerColor.RED), GAMMA_SETUPS.nextSetup(random, PlayerColor.BLUE));
+		game.startGame();
+		return game;
+	}
+	
+	private static StrategyGameControllerImpl deltaGame(Random random) throws StrategyException {
+		final StrategyGameControllerImpl game = new DeltaStrategyGameController(
+				DELTA_SETUPS.nextSetup(random, PlayerColor.RED), DELTA_SETUPS.nextSetup(random, PlayerColor.BLUE));
+		game.startGame();
+		return game;
+	}
+	
+	/**
+	 * Plays the game the kernel would play with the given seed through move(),
+	 * checking every move on the way
+	 * @return the status after the last move
+	 */
+	private static MoveResultStatus referencePlayout(StrategyGameControllerImpl game, long seed, int maxMoves)
+			throws StrategyException {
+		final XorShiftRandom random = new XorShiftRandom(seed);
+		final MoveBuffer moves = new MoveBuffer();
+		final BoardSpec spec = game.getBoardSpec();
+		PlayerColor color = PlayerColor.RED;
+		
+		for (int i = 0; i < maxMoves; i++) {
+			if (game.generateLegalMoves(color, moves) == 0) {
+				return color == PlayerColor.RED ? MoveResultStatus.BLUE_WINS : MoveResultStatus.RED_WINS;
+			}
+			final int move = moves.get(random.nextInt(moves.size()));
+			final int from = MoveBuffer.fromOf(move);
+			final MoveResult result = game.move(game.getPieceAt(from).getType(), spec.getLocation(from),
+					spec.getLocation(MoveBuffer.toOf(move)));
+			if (result.getStatus() != MoveResultStatus.OK) {
+				return result.getStatus();
+			}
+			color = color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+		}
+		return MoveResultStatus.OK;
+	}
+	
+	private static void checkMatchesReference(StrategyGameControllerImpl kernelGame,
+			StrategyGameControllerImpl referenceGame, long seed) throws StrategyException {
+		final PlayoutKernel kernel = new PlayoutKernel(seed);
+		
+		final MoveResultStatus status = kernel.playout(kernelGame, 2000);
+		assertEquals(referencePlayout(referenceGame, seed, 2000), status);
+		assertEquals(referenceGame.positionHash(), kernelGame.positionHash());
+		for (PlayerColor color : PlayerColor.values()) {
+			assertEquals(referenceGame.getPieceCount(color), kernelGame.getPieceCount(color));
+		}
+	}
+	
+	@Test
+	public void matchesMoveTest() throws StrategyException {
+		for (long seed = 0; seed < 10; seed++) {
+			checkMatchesReference(gammaGame(new Random(seed)), gammaGame(new Random(seed)), seed);
+			checkMatchesReference(deltaGame(new Random(seed)), deltaGame(new Random(seed)), seed);
+			checkMatchesReference(EpsilonGames.start(new Random(seed)), EpsilonGames.start(new Random(seed)), seed);
+		}
+	}
+	
+	@Test
+	public void copyFromRestoresPositionTest() throws StrategyException {
+		final StrategyGameControllerImpl game = EpsilonGames.start(new Random(2));
+		final StrategyGameControllerImpl start = game.copy();
+		final PlayoutKernel kernel = new PlayoutKernel(2);
+		
+		kernel.playout(game, 2000);
+		final long end = game.positionHash();
+		assertTrue(kernel.getLength() > 0);
+		assertNotEquals(start.positionHash(), end);
+		
+		// going back and playing the same seed again ends the same way
+		game.copyFrom(start);
+		assertEquals(start.positionHash(), game.positionHash());
+		assertEquals(PlayerColor.RED, game.getPlayerToMove());
+		new PlayoutKernel(2).playout(game, 2000);
+		assertEquals(end, game.positionHash());
+	}
+	
+	@Test
+	public void playoutsDoNotAllocateTest() throws StrategyException {
+		final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+		final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+		final long thread = Thread.currentThread().getId();
+		
+		final StrategyGameControllerImpl game = EpsilonGames.start(new Random(6));
+		final StrategyGameControllerImpl start = game.copy();
+		final PlayoutKernel kernel = new PlayoutKernel(6);
+		
+		// once the move buffer has grown there is nothing left to allocate
+		for (int i = 0; i < 50; i++) {
+			game.copyFrom(start);
+			kernel.playout(game, 500);
+		}
+		long numMoves = 0;
+		final long before = allocations.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < 50; i++) {
+			game.copyFrom(start);
+			kernel.playout(game, 500);
+			numMoves += kernel.getLength();
+		}
+		final long allocated = allocations.getThreadAllocatedBytes(thread) - before;
+		
+		assertTrue(numMoves > 1000);
+		assertTrue("allocated " + allocated + " bytes", allocated < 1024);
+	}
+}
@@ -0,0 +1,80 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.PieceType;
+import strategy.game.version.delta.DeltaStrategyGameController;
+import strategy.game.version.epsilon.EpsilonStrategyGameController;
+
+/**
+ * @author Alex C
+ * 
+ */
+public class SetupGeneratorTest {
+	
+	private static final SetupGenerator EPSILON = new SetupGenerator(EpsilonStrategyGameController.SETUP_VALIDATOR);
+	private static final SetupGenerator DELTA = new SetupGenerator(DeltaStrategyGameController.SETUP_VALIDATOR);
+	
+	@Test
+	public void generatedSetupsAreValidTest() {
+		final Random random = new Random(5150);
+		for (SetupGenerator generator : new SetupGenerator[] { EPSILON, DELTA }) {
+			final SetupValidator validator = generator.getValidator();
+			final byte[] setups = new byte[1000 * validator.getNumPieces()];
+			final long[] valid = new long[16];
+			
+			generator.nextBatch(random, setups, 1000);
+			assertEquals(1000, validator.validateBatch(setups, 1000, valid));
+		}
+	}
+	
+	@Test
+	public void everyPieceCanBeLeftOutTest() {
+		final Random random = new Random(17);
+		final SetupValidator validator = EPSILON.getValidator();
+		final byte[] setup = new byte[validator.getNumPieces()];
+		final boolean[] leftOut = new boolean[PieceType.values().length];
+		
+		for (int i = 0; i < 2000; i++) {
+			EPSILON.next(random, setup, 0);
+			final int[] counts = new int[leftOut.length];
+			for (byte type : setup) {
+				counts[type]++;
+			}
+			for (PieceType type : PieceType.values()) {
+				leftOut[type.ordinal()] |= counts[type.ordinal()] < validator.getMaxCount(type);
+			}
+		}
+		
+		for (PieceType type : PieceType.values()) {
+			assertEquals(type.toString(), validator.getMaxCount(type) > 0 && type != PieceType.FLAG, 
+					leftOut[type.ordinal()]);
+		}
+	}
+	
+	@Test
+	public void sameSeedSameSetupTest() throws StrategyException {
+		final byte[] first = new byte[40];
+		final byte[] second = new byte[40];
+		EPSILON.next(new Random(99), first, 0);
+		EPSILON.next(new Random(99), second, 0);
+		assertArrayEquals(first, second);
+		
+		EPSILON.next(new Random(100), second, 0);
+		assertFalse(Arrays.equals(first, second));
+		
+		// both players' setups can start a game
+		new EpsilonStrategyGameController(EPSILON.nextSetup(new Random(1), PlayerColor.RED), 
+				EPSILON.nextSetup(new Random(2), PlayerColor.BLUE), null);
+	}
+}
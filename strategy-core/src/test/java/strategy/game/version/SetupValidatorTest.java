@@ -0,0 +1,155 @@
+/**
+ * 
+ */
+package strategy.game.version;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.Location2D;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.version.delta.DeltaStrategyGameController;
+import strategy.game.version.epsilon.EpsilonStrategyGameController;
+
+/**
+ * @author Alex C
+ * 
+ */
+public class SetupValidatorTest {
+	
+	private static final SetupValidator EPSILON = EpsilonStrategyGameController.SETUP_VALIDATOR;
+	private static final SetupValidator DELTA = DeltaStrategyGameController.SETUP_VALIDATOR;
+	
+	/**
+	 * Packs the largest count of every type, flags first and then in type order,
+	 * leaving out the last pieces that do not fit
+	 */
+	private static byte[] packInOrder(SetupValidator validator) {
+		final byte[] setup = new byte[validator.getNumPieces()];
+		int i = 0;
+		for (int n = 0; n < validator.getMaxCount(PieceType.FLAG); n++) {
+			setup[i++] = (byte) PieceType.FLAG.ordinal();
+		}
+		for (PieceType type : PieceType.values()) {
+			if (type == PieceType.FLAG) {
+				continue;
+			}
+			for (int n = 0; n < validator.getMaxCount(type) && i < setup.length; n++) {
+				setup[i++] = (byte) type.ordinal();
+			}
+		}
+		return setup;
+	}
+	
+	@Test
+	public void packedSetupsTest() {
+		final byte[] setup = packInOrder(EPSILON);
+		assertTrue(EPSILON.isValid(setup, 0));
+		
+		// the flags may not be the piece left out
+		final byte[] noFlag = setup.clone();
+		noFlag[indexOf(noFlag, PieceType.FLAG)] = (byte) PieceType.SCOUT.ordinal();
+		assertFalse(EPSILON.isValid(noFlag, 0));
+		
+		// one marshal at most
+		final byte[] twoMarshals = setup.clone();
+		twoMarshals[indexOf(twoMarshals, PieceType.GENERAL)] = (byte) PieceType.MARSHAL.ordinal();
+		assertFalse(EPSILON.isValid(twoMarshals, 0));
+		
+		// Delta has no first lieutenants and no room to leave a piece out
+		assertFalse(DELTA.isValid(setup, 0));
+		assertTrue(DELTA.isValid(packInOrder(DELTA), 0));
+	}
+	
+	@Test
+	public void batchTest() {
+		final int numPieces = EPSILON.getNumPieces();
+		final byte[] valid = packInOrder(EPSILON);
+		final byte[] setups = new byte[numPieces * 100];
+		for (int i = 0; i < 100; i++) {
+			System.arraycopy(valid, 0, setups, i * numPieces, numPieces);
+			if (i % 3 == 0) {
+				setups[i * numPieces] = (byte) PieceType.CHOKE_POINT.ordinal();
+			}
+		}
+		
+		final long[] results = { -1L, 0 };
+		assertEquals(66, EPSILON.validateBatch(setups, 100, results));
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i % 3 != 0, (results[i >>> 6] & (1L << (i & 63))) != 0);
+		}
+	}
+	
+	@Test
+	public void unpackedSetupTest() throws StrategyException {
+		final byte[] packed = packInOrder(EPSILON);
+		final List<PieceLocationDescriptor> setup = new ArrayList<PieceLocationDescriptor>(
+				EPSILON.unpack(packed, 0, PlayerColor.BLUE));
+		EPSILON.validate(setup);
+		
+		final byte[] repacked = new byte[packed.length];
+		EPSILON.pack(setup, repacked, 0);
+		assertArrayEquals(packed, repacked);
+		
+		// blue pieces in the red setup area
+		final List<PieceLocationDescriptor> misplaced = new ArrayList<PieceLocationDescriptor>();
+		for (PieceLocationDescriptor piece : EPSILON.unpack(packed, 0, PlayerColor.RED)) {
+			misplaced.add(new PieceLocationDescriptor(Piece.of(piece.getPiece().getType(), PlayerColor.BLUE), 
+					piece.getLocation()));
+		}
+		assertFalse(EPSILON.isValid(misplaced));
+		assertTrue(EPSILON.isValid(EPSILON.unpack(packed, 0, PlayerColor.RED)));
+	}
+	
+	@Test(expected=StrategyException.class)
+	public void sameSpaceTwiceTest() throws StrategyException {
+		final List<PieceLocationDescriptor> setup = new ArrayList<PieceLocationDescriptor>(
+				EPSILON.unpack(packInOrder(EPSILON), 0, PlayerColor.RED));
+		
+		// (0,0) and (2,0) moved to (1,0) keep the sum of the space numbers the same
+		setup.set(0, new PieceLocationDescriptor(setup.get(0).getPiece(), Location2D.of(1, 0)));
+		setup.set(2, new PieceLocationDescriptor(setup.get(2).getPiece(), Location2D.of(1, 0)));
+		EPSILON.validate(setup);
+	}
+	
+	@Test(expected=StrategyException.class)
+	public void mixedColorsTest() throws StrategyException {
+		final List<PieceLocationDescriptor> setup = new ArrayList<PieceLocationDescriptor>(
+				EPSILON.unpack(packInOrder(EPSILON), 0, PlayerColor.RED));
+		setup.set(5, new PieceLocationDescriptor(Piece.of(setup.get(5).getPiece().getType(), PlayerColor.BLUE),
+				setup.get(5).getLocation()));
+		EPSILON.validate(setup);
+	}
+	
+	@Test
+	public void pieceTheVersionDoesNotUseTest() {
+		final List<PieceLocationDescriptor> setup = new ArrayList<PieceLocationDescriptor>(
+				DELTA.unpack(packInOrder(DELTA), 0, PlayerColor.RED));
+		setup.set(5, new PieceLocationDescriptor(Piece.of(PieceType.FIRST_LIEUTENANT, PlayerColor.RED),
+				setup.get(5).getLocation()));
+		try {
+			DELTA.validate(setup);
+			fail("a first lieutenant in a Delta setup");
+		}
+		catch (StrategyException e) {
+			assertEquals("Invalid Piece", e.getMessage());
+		}
+	}
+	
+	private static int indexOf(byte[] setup, PieceType type) {
+		for (int i = 0; i < setup.length; i++) {
+			if (setup[i] == type.ordinal()) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
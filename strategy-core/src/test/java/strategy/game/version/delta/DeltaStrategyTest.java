@@ -25,6 +25,9 @@ import strategy.game.common.MoveResultStatus;
 import strategy.game.common.Piece;
 import strategy.game.common.PieceLocationDescriptor;
 import strategy.game.common.PieceType;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveValidation;
+import strategy.game.version.StrategyGameControllerImpl;
 
 /**
  * @author Alex C
@@ -357,7 +360,7 @@ public class DeltaStrategyTest {
 		newBoard.put(everySpace[60], bluePieces[34]);
 		
 		// use mock DeltaStrategyGameController to set the board
-		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard, 2, 1);
+		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
 		
 		game.startGame();
 		
@@ -381,7 +384,7 @@ public class DeltaStrategyTest {
 		newBoard.put(everySpace[60], bluePieces[34]);
 		
 		// use mock DeltaStrategyGameController to set the board
-		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard, 2, 1);
+		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
 		
 		game.startGame();
 		
@@ -406,7 +409,7 @@ public class DeltaStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[34]);
 		
 		// use mock DeltaStrategyGameController to set the board
-		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard, 2, 1);
+		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
 		
 		game.startGame();
 
@@ -430,7 +433,7 @@ public class DeltaStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[34]);
 		
 		// use mock DeltaStrategyGameController to set the board
-		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard, 2, 1);
+		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
 		
 		game.startGame();
 
@@ -455,7 +458,7 @@ public class DeltaStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[34]);
 		
 		// use mock DeltaStrategyGameController to set the board
-		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard, 2, 1);
+		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
 		
 		game.startGame();
 
@@ -480,7 +483,7 @@ public class DeltaStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[34]);
 		
 		// use mock DeltaStrategyGameController to set the board
-		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard, 2, 1);
+		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
 		
 		game.startGame();
 
@@ -849,7 +852,7 @@ public class DeltaStrategyTest {
 		newBoard.put(everySpace[45], bluePieces[34]);
 		
 		// use mock DeltaStrategyGameController to set the board with just 1 piece left per side
-		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard, 1, 1);
+		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
 		
 		game.startGame();
 		
@@ -874,7 +877,7 @@ public class DeltaStrategyTest {
 		newBoard.put(everySpace[99], bluePieces[38]);
 		
 		// use mock DeltaStrategyGameController to set the board with just 1 red piece and 2 blue pieces
-		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard, 1, 2);
+		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
 		
 		game.startGame();
 		
@@ -899,7 +902,7 @@ public class DeltaStrategyTest {
 		newBoard.put(everySpace[0], redPieces[38]);
 		
 		// use mock DeltaStrategyGameController to set the board with just 1 red pieces and 1 blue piece
-		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard, 2, 1);
+		game = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
 		
 		game.startGame();
 		
@@ -909,6 +912,40 @@ public class DeltaStrategyTest {
 		assertEquals(res.getStatus(), MoveResultStatus.RED_WINS);
 	}
 	
-	
-	
+	@Test
+	public void knowledgeFollowsPiecesTest() throws StrategyException {
+		final Map<Location, Piece> newBoard = new HashMap<Location, Piece>();
+		newBoard.put(everySpace[0], Piece.of(PieceType.SCOUT, PlayerColor.RED));
+		newBoard.put(everySpace[44], Piece.of(PieceType.SERGEANT, PlayerColor.RED));
+		newBoard.put(everySpace[9], Piece.of(PieceType.FLAG, PlayerColor.RED));
+		newBoard.put(everySpace[45], Piece.of(PieceType.LIEUTENANT, PlayerColor.BLUE));
+		newBoard.put(everySpace[99], Piece.of(PieceType.SCOUT, PlayerColor.BLUE));
+		newBoard.put(everySpace[90], Piece.of(PieceType.FLAG, PlayerColor.BLUE));
+		final MockDeltaStrategyGameController mockGame = new MockDeltaStrategyGameController(redCollection, blueCollection, newBoard);
+		mockGame.startGame();
+		
+		// a scout moving more than one space gives itself away
+		assertEquals(MoveValidation.OK, mockGame.makeMove(MoveBuffer.encode(0, 30)));
+		assertEquals(StrategyGameControllerImpl.KNOWN_MOVED | StrategyGameControllerImpl.KNOWN_REVEALED, 
+				mockGame.getKnowledge(30));
+		assertEquals(0, mockGame.getKnowledge(0));
+		
+		// a one space move only shows that the piece is not a bomb or a flag
+		assertEquals(MoveValidation.OK, mockGame.makeMove(MoveBuffer.encode(99, 98)));
+		assertEquals(StrategyGameControllerImpl.KNOWN_MOVED, mockGame.getKnowledge(98));
+		
+		// the lieutenant wins the battle and takes the sergeant's space, revealed but never moved by itself
+		assertEquals(MoveValidation.OK, mockGame.makeMove(MoveBuffer.encode(44, 45)));
+		assertEquals(Piece.of(PieceType.LIEUTENANT, PlayerColor.BLUE), mockGame.getPieceAt(44));
+		assertEquals(StrategyGameControllerImpl.KNOWN_REVEALED, mockGame.getKnowledge(44));
+		assertEquals(0, mockGame.getKnowledge(45));
+		assertEquals(0, mockGame.getKnowledge(90));
+		
+		while (mockGame.getUndoDepth() > 0) {
+			mockGame.unmakeMove();
+		}
+		for (int i = 0; i < 100; i++) {
+			assertEquals(0, mockGame.getKnowledge(i));
+		}
+	}
 }
@@ -26,17 +26,16 @@ public class MockDeltaStrategyGameController extends DeltaStrategyGameController
 	 * @param redPieces collection of red pieces
 	 * @param bluePieces collection of blue pieces
 	 * @param board what you want to set the board to
-	 * @param numRedMoveable number of remaining red movable pieces left
-	 * @param numBlueMovable number of remaining blue movable pieces left
 	 * @throws StrategyException thrown if collections are deemed invalid per the normal constructor
 	 */
 	public MockDeltaStrategyGameController(Collection<PieceLocationDescriptor> redPieces,
-			Collection<PieceLocationDescriptor> bluePieces, Map<Location, Piece> board,
-			int numRedMovable, int numBlueMovable) throws StrategyException {
+			Collection<PieceLocationDescriptor> bluePieces, Map<Location, Piece> board) throws StrategyException {
 		super(redPieces, bluePieces);
 		
-		this.board = board;
-		numRedMovablePieces = numRedMovable;
-		numBlueMovablePieces = numBlueMovable;
+		// copy the given board over the one built by the real constructor
+		clearBoard();
+		for (Map.Entry<Location, Piece> space : board.entrySet()) {
+			setPieceAt(space.getKey(), space.getValue());
+		}
 	}
 }
@@ -0,0 +1,85 @@
+/**
+ * 
+ */
+package strategy.game.version.epsilon;
+
+import java.util.Collection;
+import java.util.Random;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.StrategyGameObserver;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.SetupGenerator;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Started Epsilon games for the tests, from random or given setups
+ * 
+ * @author Alex C
+ * 
+ */
+public final class EpsilonGames {
+	
+	/** generates the random setups of every game */
+	public static final SetupGenerator SETUPS = new SetupGenerator(EpsilonStrategyGameController.SETUP_VALIDATOR);
+	
+	private EpsilonGames() {
+	}
+	
+	/**
+	 * @param random draws the red setup and then the blue one
+	 * @return a started game with random setups and no observers
+	 */
+	public static StrategyGameControllerImpl start(Random random) throws StrategyException {
+		return start(random, null);
+	}
+	
+	/**
+	 * @param random draws the red setup and then the blue one
+	 * @param observers the observers of the game, or null
+	 * @return a started game with random setups
+	 */
+	public static StrategyGameControllerImpl start(Random random, Collection<StrategyGameObserver> observers)
+			throws StrategyException {
+		return start(SETUPS.nextSetup(random, PlayerColor.RED), SETUPS.nextSetup(random, PlayerColor.BLUE), observers);
+	}
+	
+	/**
+	 * @param redSetup the red pieces
+	 * @param blueSetup the blue pieces
+	 * @param observers the observers of the game, or null
+	 * @return a started game with the given setups
+	 */
+	public static StrategyGameControllerImpl start(Collection<PieceLocationDescriptor> redSetup,
+			Collection<PieceLocationDescriptor> blueSetup, Collection<StrategyGameObserver> observers)
+			throws StrategyException {
+		final StrategyGameControllerImpl game = new EpsilonStrategyGameController(redSetup, blueSetup, observers);
+		game.startGame();
+		return game;
+	}
+	
+	/**
+	 * @param game the game to move in
+	 * @param color the player to move
+	 * @param other a game whose piece on the cell moved from has to be of a different type, or null
+	 * @return the first legal move of the player by one space to an empty space
+	 */
+	public static int firstStep(StrategyGameControllerImpl game, PlayerColor color, 
+			StrategyGameControllerImpl other) {
+		final MoveBuffer moves = new MoveBuffer();
+		final int width = game.getBoardSpec().getWidth();
+		final int numMoves = game.generateLegalMoves(color, moves);
+		for (int i = 0; i < numMoves; i++) {
+			final int from = MoveBuffer.fromOf(moves.get(i));
+			final int to = MoveBuffer.toOf(moves.get(i));
+			if ((to == from + 1 || to == from - 1 || to == from + width || to == from - width)
+					&& game.getPieceAt(to) == null
+					&& (other == null || other.getPieceAt(from) != game.getPieceAt(from))) {
+				return moves.get(i);
+			}
+		}
+		throw new AssertionError("No step to an empty space");
+	}
+}
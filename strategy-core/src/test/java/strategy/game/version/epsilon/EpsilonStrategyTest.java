@@ -5,13 +5,11 @@ package strategy.game.version.epsilon;
 
 import static org.junit.Assert.*;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
-import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -29,7 +27,10 @@ import strategy.game.common.Piece;
 import strategy.game.common.PieceLocationDescriptor;
 import strategy.game.common.PieceType;
 import strategy.game.common.StrategyGameObserver;
-import strategy.game.reporter.StrategyGameReporter;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveOutcome;
+import strategy.game.version.MoveValidation;
+import strategy.game.version.StrategyGameControllerImpl;
 
 /**
  * @author Alex C
@@ -1202,7 +1203,7 @@ public class EpsilonStrategyTest {
 		newBoard.put(everySpace[60], bluePieces[21]);
 		
 		// use mock MockEpsilonStrategyGameController to set the board
-		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard, 2, 1);
+		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard);
 		
 		game.startGame();
 		
@@ -1226,7 +1227,7 @@ public class EpsilonStrategyTest {
 		newBoard.put(everySpace[60], bluePieces[21]);
 		
 		// use mock MockEpsilonStrategyGameController to set the board
-		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard, 2, 1);
+		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard);
 		
 		game.startGame();
 		
@@ -1251,7 +1252,7 @@ public class EpsilonStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[21]);
 		
 		// use mock MockEpsilonStrategyGameController to set the board
-		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard, 2, 1);
+		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard);
 		
 		game.startGame();
 
@@ -1275,7 +1276,7 @@ public class EpsilonStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[21]);
 		
 		// use mock MockEpsilonStrategyGameController to set the board
-		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard, 2, 1);
+		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard);
 		
 		game.startGame();
 
@@ -1300,7 +1301,7 @@ public class EpsilonStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[21]);
 		
 		// use mock MockEpsilonStrategyGameController to set the board
-		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard, 2, 1);
+		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard);
 		
 		game.startGame();
 
@@ -1325,7 +1326,7 @@ public class EpsilonStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[21]);
 		
 		// use mock MockEpsilonStrategyGameController to set the board
-		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard, 2, 1);
+		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard);
 		
 		game.startGame();
 
@@ -1352,7 +1353,7 @@ public class EpsilonStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[21]);
 		
 		// use mock MockEpsilonStrategyGameController to set the board
-		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard, 2, 1);
+		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard);
 		
 		game.startGame();
 
@@ -1375,7 +1376,7 @@ public class EpsilonStrategyTest {
 		newBoard.put(everySpace[9], bluePieces[21]);
 		
 		// use mock MockEpsilonStrategyGameController to set the board
-		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard, 2, 1);
+		game = new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard);
 		
 		game.startGame();
 
@@ -1384,268 +1385,288 @@ public class EpsilonStrategyTest {
 		
 	}
 	
-	/* ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ USING OBSERVER ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
-	
+	/* ~~~~~~~~~~~~~~~~~~~~~~~~ LEGAL MOVE GENERATION ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
 	@Test
-	public void ObserverStartGame() throws StrategyException {
-		StringWriter stringWriter = new StringWriter();
-		Writer printWriter = new PrintWriter(stringWriter);
-		StrategyGameObserver gameObs = new StrategyGameReporter(printWriter);
-		
-		StringWriter expectedOutput = new StringWriter();
-		
-		expectedOutput.write("Game Start Called.\n");
-		
-		expectedOutput.append("Red's Initial piece configuration is:\n");
+	public void generatedMovesAreAcceptedTest() throws StrategyException {
+		final MoveBuffer moves = new MoveBuffer();
+		EpsilonStrategyGameController epsilonGame = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+		epsilonGame.startGame();
 		
-		for (PieceLocationDescriptor pieceLocDes : redCollection) {
-			expectedOutput.append(pieceLocDes.getPiece() + " at " + pieceLocDes.getLocation() + "\n");
-		}
-		
-		expectedOutput.append("Blue's Initial piece configuration is:");
+		assertEquals(0, epsilonGame.generateLegalMoves(PlayerColor.BLUE, moves));
+		assertTrue(epsilonGame.generateLegalMoves(PlayerColor.RED, moves) > 0);
 		
-		for (PieceLocationDescriptor pieceLocDes : blueCollection) {
-			expectedOutput.append(pieceLocDes.getPiece() + " at " + pieceLocDes.getLocation() + "\n");
+		for (int i = 0; i < moves.size(); i++) {
+			epsilonGame = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+			epsilonGame.startGame();
+			
+			final Location from = everySpace[moves.getFrom(i)];
+			epsilonGame.move(epsilonGame.getPieceAt(from).getType(), from, everySpace[moves.getTo(i)]);
 		}
-		
-		observers.add(gameObs);
-		
-		game = gameFactory.makeEpsilonStrategyGame(redCollection, blueCollection, observers);
-
-		// extra new line to act as separator in console output
-		System.out.println("");
-		game.startGame();
-		
-		assertEquals(expectedOutput.getBuffer().toString(), stringWriter.getBuffer().toString());		
 	}
 	
 	@Test
-	public void RegisterObserver() throws StrategyException {
-		StringWriter stringWriter = new StringWriter();
-		Writer printWriter = new PrintWriter(stringWriter);
-		StrategyGameObserver gameObs = new StrategyGameReporter(printWriter);
+	public void generateFirstLTAttackTest() throws StrategyException {
+		final MoveBuffer moves = new MoveBuffer();
+		final EpsilonStrategyGameController epsilonGame = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+		epsilonGame.startGame();
 		
-		StringWriter expectedOutput = new StringWriter();
+		epsilonGame.move(PieceType.LIEUTENANT, everySpace[34], everySpace[44]);
+		epsilonGame.generateLegalMoves(PlayerColor.BLUE, moves);
 		
-		expectedOutput.write("Game Start Called.\n");
-		
-		expectedOutput.append("Red's Initial piece configuration is:\n");
-		
-		for (PieceLocationDescriptor pieceLocDes : redCollection) {
-			expectedOutput.append(pieceLocDes.getPiece() + " at " + pieceLocDes.getLocation() + "\n");
-		}
-		
-		expectedOutput.append("Blue's Initial piece configuration is:");
-		
-		for (PieceLocationDescriptor pieceLocDes : blueCollection) {
-			expectedOutput.append(pieceLocDes.getPiece() + " at " + pieceLocDes.getLocation() + "\n");
-		}
-		
-		game = gameFactory.makeEpsilonStrategyGame(redCollection, blueCollection, null);
-
-		((EpsilonStrategyGameController) game).register(gameObs);
-		
-		// extra new line to act as separator in console output
-		System.out.println("");
-		game.startGame();
-		
-		assertEquals(expectedOutput.getBuffer().toString(), stringWriter.getBuffer().toString());		
+		// two space attack and one space move
+		assertTrue(moves.contains(64, 44));
+		assertTrue(moves.contains(64, 54));
+		// 1ST LT cannot move 2 spaces if not attacking
+		assertFalse(moves.contains(65, 45));
+		// cannot move onto a choke point
+		assertFalse(moves.contains(62, 52));
 	}
 	
 	@Test
-	public void RemoveObserver() throws StrategyException {
-		StringWriter stringWriter = new StringWriter();
-		Writer printWriter = new PrintWriter(stringWriter);
-		StrategyGameObserver gameObs = new StrategyGameReporter(printWriter);
-		
-		StringWriter expectedOutput = new StringWriter();
+	public void generateScoutSlideTest() throws StrategyException {
+		final MoveBuffer moves = new MoveBuffer();
+		final Map<Location, Piece> newBoard = new HashMap<Location, Piece>();
 		
-		observers.add(gameObs);
+		// red scout at 0,0 
+		newBoard.put(everySpace[0], redPieces[21]);
+		// red colonel at 4,0
+		newBoard.put(everySpace[4], redPieces[0]);
+		// blue Scout at 0,9
+		newBoard.put(everySpace[90], bluePieces[21]);
 		
-		game = gameFactory.makeEpsilonStrategyGame(redCollection, blueCollection, observers);
-
-		((EpsilonStrategyGameController) game).unregister(gameObs);
+		final EpsilonStrategyGameController epsilonGame = 
+				new MockEpsilonStrategyGameController(redCollection, blueCollection, null, newBoard);
+		epsilonGame.startGame();
 		
-		game.startGame();
+		epsilonGame.generateLegalMoves(PlayerColor.RED, moves);
 		
-		assertEquals(expectedOutput.getBuffer().toString(), stringWriter.getBuffer().toString());		
+		assertTrue(moves.contains(0, 3));
+		assertFalse(moves.contains(0, 4));
+		assertFalse(moves.contains(0, 5));
+		assertTrue(moves.contains(0, 80));
+		// cannot attack when moving scout more than 1 space
+		assertFalse(moves.contains(0, 90));
 	}
 	
 	@Test
-	public void ObserverMoveAndWinnerTest() throws StrategyException {
-		StringWriter stringWriter = new StringWriter();
-		Writer printWriter = new PrintWriter(stringWriter);
-		StrategyGameObserver gameObs = new StrategyGameReporter(printWriter);
-		
-		StringWriter expectedOutput = new StringWriter();
-		
-		game = gameFactory.makeEpsilonStrategyGame(redCollection, blueCollection, null);
+	public void generateSkipsRepetitionTest() throws StrategyException {
+		final MoveBuffer moves = new MoveBuffer();
+		final EpsilonStrategyGameController epsilonGame = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+		epsilonGame.startGame();
 
-		game.startGame();
-		
-		// start game and then register the observer to avoid that massive output to console when 
-		// calling start game. Start game is already tested above.
-		((EpsilonStrategyGameController) game).register(gameObs);
-		
-		// extra new line to act as separator in console output
-		System.out.println("");
-		game.move(PieceType.MINER, everySpace[30], everySpace[40]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[30] + " to:" + everySpace[40] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[30] + " now at location " + everySpace[40] + "\n");
-		
-		game.move(PieceType.MINER, everySpace[69], everySpace[59]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[69] + " to:" + everySpace[59] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + bluePieces[30] + " now at location " + everySpace[59] + "\n");
-		
-		game.move(PieceType.MINER, everySpace[40], everySpace[50]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[40] + " to:" + everySpace[50] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[30] + " now at location " + everySpace[50] + "\n");
+		epsilonGame.move(PieceType.FIRST_LIEUTENANT, everySpace[35], everySpace[45]);
+		epsilonGame.move(PieceType.FIRST_LIEUTENANT, everySpace[64], everySpace[54]);
+		epsilonGame.move(PieceType.FIRST_LIEUTENANT, everySpace[45], everySpace[35]);
+		epsilonGame.move(PieceType.FIRST_LIEUTENANT, everySpace[54], everySpace[64]);
 		
-		game.move(PieceType.MINER, everySpace[59], everySpace[49]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[59] + " to:" + everySpace[49] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + bluePieces[30]+ " now at location " + everySpace[49] + "\n");
-		
-		game.move(PieceType.MINER, everySpace[50], everySpace[60]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[50] + " to:" + everySpace[60] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[30] + " now at location " + everySpace[60] + "\n");
-		
-		game.move(PieceType.MINER, everySpace[49], everySpace[39]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[49] + " to:" + everySpace[39] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + bluePieces[30] + " now at location " + everySpace[39] + "\n");
-		
-		// 1 flag captured
-		game.move(PieceType.MINER, everySpace[60], everySpace[70]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[60] + " to:" + everySpace[70] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[30] + " now at location " + everySpace[70] + "\n");
-		
-		// blue captures 1 red flag but game should not be over
-		game.move(PieceType.MINER, everySpace[39], everySpace[29]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[39] + " to:" + everySpace[29] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + bluePieces[30] + " now at location " + everySpace[29] + "\n");
+		epsilonGame.generateLegalMoves(PlayerColor.RED, moves);
 		
-		game.move(PieceType.MARSHAL, everySpace[38], everySpace[48]);
-		expectedOutput.append(PieceType.MARSHAL.getPrintableName() + " moving from:" + everySpace[38] + " to:" + everySpace[48] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[38] + " now at location " + everySpace[48] + "\n");
-		
-		game.move(PieceType.MINER, everySpace[29], everySpace[19]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[29] + " to:" + everySpace[19] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + bluePieces[30] + " now at location " + everySpace[19] + "\n");
-		
-		game.move(PieceType.MARSHAL, everySpace[48], everySpace[58]);
-		expectedOutput.append(PieceType.MARSHAL.getPrintableName() + " moving from:" + everySpace[48] + " to:" + everySpace[58] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[38] + " now at location " + everySpace[58] + "\n");
-		
-		game.move(PieceType.MINER, everySpace[19], everySpace[9]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[19] + " to:" + everySpace[9] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + bluePieces[30] + " now at location " + everySpace[9] + "\n");
-		
-		game.move(PieceType.MARSHAL, everySpace[58], everySpace[59]);
-		expectedOutput.append(PieceType.MARSHAL.getPrintableName() + " moving from:" + everySpace[58] + " to:" + everySpace[59] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[38] + " now at location " + everySpace[59] + "\n");
-		
-		game.move(PieceType.MINER, everySpace[9], everySpace[19]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[9] + " to:" + everySpace[19] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + bluePieces[30] + " now at location " + everySpace[19] + "\n");
-		
-		game.move(PieceType.MARSHAL, everySpace[59], everySpace[69]);
-		expectedOutput.append(PieceType.MARSHAL.getPrintableName() + " moving from:" + everySpace[59] + " to:" + everySpace[69] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[38] + " now at location " + everySpace[69] + "\n");
-		
-		game.move(PieceType.MINER, everySpace[19], everySpace[29]);
-		expectedOutput.append(PieceType.MINER.getPrintableName() + " moving from:" + everySpace[19] + " to:" + everySpace[29] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + bluePieces[30] + " now at location " + everySpace[29] + "\n");
-		
-		// second flag captured
-		game.move(PieceType.MARSHAL, everySpace[69], everySpace[79]);
-		expectedOutput.append(PieceType.MARSHAL.getPrintableName() + " moving from:" + everySpace[69] + " to:" + everySpace[79] + "\n");
-		expectedOutput.append("\tGame Over. Result: " + MoveResultStatus.RED_WINS + "\n");		
-
-		assertEquals(expectedOutput.getBuffer().toString(), stringWriter.getBuffer().toString());		
+		assertFalse(moves.contains(35, 45));
+		assertTrue(moves.contains(34, 44));
 	}
 	
+	/* ~~~~~~~~~~~~~~~~~~~~~~~~ TRY MOVE ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
 	@Test
-	public void ObserverBattleDrawTest() throws StrategyException {
-		StringWriter stringWriter = new StringWriter();
-		Writer printWriter = new PrintWriter(stringWriter);
-		StrategyGameObserver gameObs = new StrategyGameReporter(printWriter);
-		
-		StringWriter expectedOutput = new StringWriter();
-		
-		game = gameFactory.makeEpsilonStrategyGame(redCollection, blueCollection, null);
-
-		game.startGame();
+	public void tryMoveRejectsWithoutExceptionTest() throws StrategyException {
+		final EpsilonStrategyGameController epsilonGame = new EpsilonStrategyGameController(redCollection, blueCollection, null);
 		
-		// start game and then register the observer to avoid that massive output to console when 
-		// calling start game. Start game is already tested above.
-		((EpsilonStrategyGameController) game).register(gameObs);
+		assertEquals(MoveValidation.GAME_NOT_STARTED, epsilonGame.tryMove(PieceType.LIEUTENANT, everySpace[34], everySpace[44]));
+		epsilonGame.startGame();
 		
-		// extra new line to act as separator in console output
-		System.out.println("");
-		game.move(PieceType.LIEUTENANT, everySpace[34], everySpace[44]);
-		expectedOutput.append(PieceType.LIEUTENANT.getPrintableName() + " moving from:" + everySpace[34] + " to:" + everySpace[44] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[34] + " now at location " + everySpace[44] + "\n");
-		
-		game.move(PieceType.FIRST_LIEUTENANT, everySpace[64], everySpace[44]);
-		expectedOutput.append(PieceType.FIRST_LIEUTENANT.getPrintableName() + " moving from:" + everySpace[64] + " to:" + everySpace[44] + "\n");
-		expectedOutput.append("\tBattle Draw. Both pieces removed.\n");
+		assertEquals(MoveValidation.FIRST_LT_MOVE_TWO_SPACES, epsilonGame.tryMove(PieceType.FIRST_LIEUTENANT, everySpace[35], everySpace[55]));
+		assertEquals(MoveValidation.CHOKE_POINT_DESTINATION, epsilonGame.tryMove(PieceType.CAPTAIN, everySpace[32], everySpace[42]));
+		assertEquals(MoveValidation.BLUE_MOVED_FIRST, epsilonGame.tryMove(PieceType.LIEUTENANT, everySpace[65], everySpace[55]));
+		assertEquals(MoveValidation.NOT_ON_BOARD, epsilonGame.tryMove(PieceType.LIEUTENANT, everySpace[34], new Location2D(4, 10)));
+		assertEquals(redPieces[34], epsilonGame.getPieceAt(everySpace[34]));
 		
-		assertEquals(expectedOutput.getBuffer().toString(), stringWriter.getBuffer().toString());		
+		assertEquals(MoveValidation.OK, epsilonGame.tryMove(PieceType.LIEUTENANT, everySpace[34], everySpace[44]));
+		assertEquals(MoveResultStatus.OK, epsilonGame.getLastMoveResult().getStatus());
+		assertEquals(redPieces[34], epsilonGame.getPieceAt(everySpace[44]));
 	}
 	
+	/* ~~~~~~~~~~~~~~~~~~~~~~~~ MAKE / UNMAKE ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
 	@Test
-	public void ObserverResignTest() throws StrategyException {
-		StringWriter stringWriter = new StringWriter();
-		Writer printWriter = new PrintWriter(stringWriter);
-		StrategyGameObserver gameObs = new StrategyGameReporter(printWriter);
-		
-		StringWriter expectedOutput = new StringWriter();
+	public void unmakeMoveRestoresGameTest() throws StrategyException {
+		final MoveBuffer moves = new MoveBuffer();
+		final EpsilonStrategyGameController epsilonGame = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+		final Random random = new Random(4233);
+		final Piece[][] boards = new Piece[200][100];
+		final int[] numMoves = new int[200];
+		final long[] hashes = new long[200];
+		
+		epsilonGame.startGame();
+		
+		int depth = 0;
+		PlayerColor toMove = PlayerColor.RED;
+		while (depth < 200) {
+			for (int i = 0; i < 100; i++) {
+				boards[depth][i] = epsilonGame.getPieceAt(everySpace[i]);
+			}
+			numMoves[depth] = epsilonGame.generateLegalMoves(toMove, moves);
+			hashes[depth] = epsilonGame.positionHash();
+			if (numMoves[depth] == 0) {
+				break;
+			}
+			
+			assertEquals(MoveValidation.OK, epsilonGame.makeMove(moves.get(random.nextInt(moves.size()))));
+			toMove = toMove == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+			depth++;
+			if (epsilonGame.getLastMoveResult().getStatus() != MoveResultStatus.OK) {
+				break;
+			}
+		}
 		
-		game = gameFactory.makeEpsilonStrategyGame(redCollection, blueCollection, null);
-
-		game.startGame();
+		assertEquals(depth, epsilonGame.getUndoDepth());
+		assertFalse(hashes[depth - 1] == epsilonGame.positionHash());
 		
-		// start game and then register the observer to avoid that massive output to console when 
-		// calling start game. Start game is already tested above.
-		((EpsilonStrategyGameController) game).register(gameObs);
+		while (depth > 0) {
+			epsilonGame.unmakeMove();
+			depth--;
+			toMove = toMove == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+			
+			for (int i = 0; i < 100; i++) {
+				assertEquals(boards[depth][i], epsilonGame.getPieceAt(everySpace[i]));
+			}
+			assertEquals(numMoves[depth], epsilonGame.generateLegalMoves(toMove, moves));
+			assertEquals(hashes[depth], epsilonGame.positionHash());
+		}
+	}
+	
+	@Test
+	public void positionHashTest() throws StrategyException {
+		final EpsilonStrategyGameController game1 = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+		final EpsilonStrategyGameController game2 = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+		game1.startGame();
+		game2.startGame();
 		
-		// extra new line to act as separator in console output
-		System.out.println("");
-		game.move(PieceType.LIEUTENANT, everySpace[34], everySpace[44]);
-		expectedOutput.append(PieceType.LIEUTENANT.getPrintableName() + " moving from:" + everySpace[34] + " to:" + everySpace[44] + "\n");
-		expectedOutput.append("\tMove/Battle successful. Result: " + MoveResultStatus.OK + " with piece " + redPieces[34] + " now at location " + everySpace[44] + "\n");
+		assertEquals(game1.positionHash(), game2.positionHash());
 		
-		game.move(PieceType.FIRST_LIEUTENANT, everySpace[64], everySpace[44]);
-		expectedOutput.append(PieceType.FIRST_LIEUTENANT.getPrintableName() + " moving from:" + everySpace[64] + " to:" + everySpace[44] + "\n");
-		expectedOutput.append("\tBattle Draw. Both pieces removed.\n");
+		game1.move(PieceType.LIEUTENANT, everySpace[34], everySpace[44]);
+		assertFalse(game1.positionHash() == game2.positionHash());
 		
-		// red resigns
-		game.move(null, null, null);
-		expectedOutput.append("Player resigned. Result: " + MoveResultStatus.BLUE_WINS + "\n");
+		game2.move(PieceType.LIEUTENANT, everySpace[34], everySpace[44]);
+		assertEquals(game1.positionHash(), game2.positionHash());
 		
-		assertEquals(expectedOutput.getBuffer().toString(), stringWriter.getBuffer().toString());		
+		// battle draw removes both pieces
+		game1.move(PieceType.FIRST_LIEUTENANT, everySpace[64], everySpace[44]);
+		game2.move(PieceType.FIRST_LIEUTENANT, everySpace[64], everySpace[44]);
+		assertEquals(game1.positionHash(), game2.positionHash());
 	}
 	
-	@Test(expected=StrategyException.class)
-	public void ObserverMoveExceptionTest() throws StrategyException {
-		StringWriter stringWriter = new StringWriter();
-		Writer printWriter = new PrintWriter(stringWriter);
-		StrategyGameObserver gameObs = new StrategyGameReporter(printWriter);
+	/* ~~~~~~~~~~~~~~~~~~~~~~~~ PACKED OUTCOME ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+	@Test
+	public void lastOutcomeMatchesMoveResultTest() throws StrategyException {
+		final EpsilonStrategyGameController epsilonGame = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+		epsilonGame.startGame();
+		
+		assertEquals(MoveOutcome.NONE, epsilonGame.getLastOutcome());
+		
+		// plain move
+		epsilonGame.move(PieceType.LIEUTENANT, everySpace[34], everySpace[44]);
+		long outcome = epsilonGame.getLastOutcome();
+		assertEquals(MoveResultStatus.OK, MoveOutcome.statusOf(outcome));
+		assertEquals(redPieces[34], MoveOutcome.winnerOf(outcome));
+		assertEquals(44, MoveOutcome.winnerCellOf(outcome));
+		assertEquals(new PieceLocationDescriptor(redPieces[34], everySpace[44]), 
+				epsilonGame.getLastMoveResult().getBattleWinner());
+		
+		// battle draw leaves no winner
+		epsilonGame.move(PieceType.FIRST_LIEUTENANT, everySpace[64], everySpace[44]);
+		outcome = epsilonGame.getLastOutcome();
+		assertNull(MoveOutcome.winnerOf(outcome));
+		assertEquals(-1, MoveOutcome.winnerCellOf(outcome));
+		assertNull(epsilonGame.getLastMoveResult().getBattleWinner());
+		
+		// resigning
+		epsilonGame.tryMove(null, null, null);
+		assertEquals(MoveResultStatus.BLUE_WINS, MoveOutcome.statusOf(epsilonGame.getLastOutcome()));
+		assertEquals(MoveResultStatus.BLUE_WINS, epsilonGame.getLastMoveResult().getStatus());
+	}
+	
+	/* ~~~~~~~~~~~~~~~~~~~~~~~~ MATERIAL ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~ */
+	@Test
+	public void materialCountsFollowBoardTest() throws StrategyException {
+		final MoveBuffer moves = new MoveBuffer();
+		final EpsilonStrategyGameController epsilonGame = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+		final Random random = new Random(77);
+		
+		assertEquals(2, epsilonGame.getPieceCount(PlayerColor.RED, PieceType.FLAG));
+		assertEquals(40, epsilonGame.getPieceCount(PlayerColor.BLUE));
+		final int startMovable = epsilonGame.getMovablePieceCount(PlayerColor.RED);
+		
+		epsilonGame.startGame();
+		PlayerColor toMove = PlayerColor.RED;
+		while (epsilonGame.generateLegalMoves(toMove, moves) > 0) {
+			epsilonGame.makeMove(moves.get(random.nextInt(moves.size())));
+			toMove = toMove == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+			
+			for (PlayerColor color : PlayerColor.values()) {
+				final int[] counts = new int[PieceType.values().length];
+				int numMovable = 0;
+				for (int i = 0; i < 100; i++) {
+					final Piece piece = epsilonGame.getPieceAt(everySpace[i]);
+					if (piece != null && piece.getOwner() == color) {
+						counts[piece.getType().ordinal()]++;
+						if (piece.getType() != PieceType.FLAG && piece.getType() != PieceType.BOMB) {
+							numMovable++;
+						}
+					}
+				}
+				for (PieceType type : PieceType.values()) {
+					if (type != PieceType.CHOKE_POINT) {
+						assertEquals(counts[type.ordinal()], epsilonGame.getPieceCount(color, type));
+					}
+				}
+				assertEquals(numMovable, epsilonGame.getMovablePieceCount(color));
+			}
+		}
 		
-		StringWriter expectedOutput = new StringWriter();
+		while (epsilonGame.getUndoDepth() > 0) {
+			epsilonGame.unmakeMove();
+		}
+		assertEquals(startMovable, epsilonGame.getMovablePieceCount(PlayerColor.RED));
+		assertEquals(2, epsilonGame.getPieceCount(PlayerColor.RED, PieceType.FLAG));
+	}
+	
+	@Test
+	public void copyIsIndependentTest() throws StrategyException {
+		final MoveBuffer moves = new MoveBuffer();
+		final EpsilonStrategyGameController epsilonGame = new EpsilonStrategyGameController(redCollection, blueCollection, null);
+		final Random random = new Random(5);
+		epsilonGame.startGame();
+		for (int i = 0; i < 20; i++) {
+			epsilonGame.generateLegalMoves(epsilonGame.getPlayerToMove(), moves);
+			epsilonGame.makeMove(moves.get(random.nextInt(moves.size())));
+		}
+		final long hash = epsilonGame.positionHash();
 		
-		game = gameFactory.makeEpsilonStrategyGame(redCollection, blueCollection, null);
-
-		game.startGame();
+		final StrategyGameControllerImpl copy = epsilonGame.copy();
+		assertEquals(hash, copy.positionHash());
+		assertEquals(epsilonGame.getPlayerToMove(), copy.getPlayerToMove());
+		assertEquals(epsilonGame.getPieceCount(PlayerColor.BLUE), copy.getPieceCount(PlayerColor.BLUE));
 		
-		// start game and then register the observer to avoid that massive output to console when 
-		// calling start game. Start game is already tested above.
-		((EpsilonStrategyGameController) game).register(gameObs);
+		// play on and take it back on the copy, the original stays put
+		int numMoves = 0;
+		for (; numMoves < 20 && copy.generateLegalMoves(copy.getPlayerToMove(), moves) > 0; numMoves++) {
+			copy.makeMove(moves.get(random.nextInt(moves.size())));
+		}
+		assertEquals(hash, epsilonGame.positionHash());
+		for (; numMoves > 0; numMoves--) {
+			copy.unmakeMove();
+		}
+		assertEquals(hash, copy.positionHash());
 		
-		// extra new line to act as separator in console output
-		System.out.println("");
-		game.move(PieceType.FIRST_LIEUTENANT, everySpace[35], everySpace[55]);		
-		expectedOutput.append("Exception thrown with message: 1ST LT cannot move 2 spaces if not attacking \n");
+		// and the other way round
+		epsilonGame.unmakeMove();
+		assertEquals(hash, copy.positionHash());
+		final long before = epsilonGame.positionHash();
 		
-		assertEquals(expectedOutput.getBuffer().toString(), stringWriter.getBuffer().toString());		
+		// the copy can take back the moves made before it was copied
+		while (copy.getUndoDepth() > 0) {
+			copy.unmakeMove();
+		}
+		assertEquals(40, copy.getPieceCount(PlayerColor.RED));
+		assertEquals(before, epsilonGame.positionHash());
+		assertEquals(19, epsilonGame.getUndoDepth());
 	}
 }
@@ -24,14 +24,15 @@ public class MockEpsilonStrategyGameController extends
 			Collection<PieceLocationDescriptor> redPieces,
 			Collection<PieceLocationDescriptor> bluePieces,
 			Collection<StrategyGameObserver>observers,
-			Map<Location, Piece> board,
-			int numRedMovable, int numBlueMovable) 
+			Map<Location, Piece> board) 
 			throws StrategyException {
 		super(redPieces, bluePieces, observers);
 		
-		this.board = board;
-		numBlueMovablePieces = numBlueMovable;
-		numRedMovablePieces = numRedMovable;
+		// copy the given board over the one built by the real constructor
+		clearBoard();
+		for (Map.Entry<Location, Piece> space : board.entrySet()) {
+			setPieceAt(space.getKey(), space.getValue());
+		}
 	}
 
 }
@@ -0,0 +1,27 @@
+/**
+ * 
+ */
+package strategy.game.tournament;
+
+import java.util.Random;
+
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.PlayerView;
+
+/**
+ * Bot that plays a uniformly random legal move
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class RandomBot implements StrategyBot {
+
+	/*
+	 * @see strategy.game.tournament.StrategyBot#chooseMove(strategy.game.version.PlayerView, strategy.game.version.MoveBuffer, java.util.Random)
+	 */
+	@Override
+	public int chooseMove(PlayerView view, MoveBuffer legalMoves, Random random) {
+		return legalMoves.get(random.nextInt(legalMoves.size()));
+	}
+
+}
@@ -0,0 +1,60 @@
+/**
+ * 
+ */
+package strategy.game.tournament;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import strategy.game.search.AlphaBetaSearch;
+import strategy.game.search.Determinizer;
+import strategy.game.search.Evaluator;
+import strategy.game.search.TranspositionTable;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.PlayerView;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Bot that plays the best move found by an alpha-beta search with a fixed node
+ * budget. The bot cannot see the enemy pieces that have not been revealed, so
+ * before every move it deals them out at random on a copy of the game and
+ * searches that.
+ * 
+ * Each thread gets its own search, evaluator and transposition table, so one
+ * bot can play in every game of a tournament at once.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class SearchBot implements StrategyBot {
+	
+	private final ThreadLocal<AlphaBetaSearch> searches;
+	
+	/**
+	 * Constructor for SearchBot
+	 * @param evaluators creates the evaluator of each thread
+	 * @param nodesPerMove the number of moves the search may make for every move played
+	 * @param tableMegabytes the size of the transposition table of each thread
+	 */
+	public SearchBot(final Supplier<? extends Evaluator> evaluators, final long nodesPerMove, 
+			final int tableMegabytes) {
+		searches = ThreadLocal.withInitial(() -> {
+			final AlphaBetaSearch search = new AlphaBetaSearch(evaluators.get(), 
+					new TranspositionTable(tableMegabytes));
+			search.setNodeLimit(nodesPerMove);
+			return search;
+		});
+	}
+
+	/*
+	 * @see strategy.game.tournament.StrategyBot#chooseMove(strategy.game.version.PlayerView, strategy.game.version.MoveBuffer, java.util.Random)
+	 */
+	@Override
+	public int chooseMove(PlayerView view, MoveBuffer legalMoves, Random random) {
+		final StrategyGameControllerImpl game = view.copyGame();
+		new Determinizer(game, view.getViewer()).determinize(game, random);
+		final int move = searches.get().search(game).getBestMove();
+		return move == TranspositionTable.NO_MOVE ? legalMoves.get(0) : move;
+	}
+
+}
@@ -0,0 +1,32 @@
+/**
+ * 
+ */
+package strategy.game.tournament;
+
+import java.util.Random;
+
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.PlayerView;
+
+/**
+ * A player in a tournament. One bot is shared by every game of a tournament, and 
+ * those games run at the same time on different threads, so a bot must not keep
+ * any state about the game it is playing. A bot only sees the game through a
+ * PlayerView, so it cannot tell the types of enemy pieces that have not been
+ * revealed.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public interface StrategyBot {
+	
+	/**
+	 * Picks the next move to make
+	 * @param view the game being played, as seen by the bot's color
+	 * @param legalMoves every legal move for the bot, never empty
+	 * @param random the random number generator of this game
+	 * @return one of the moves in legalMoves, packed as by MoveBuffer
+	 */
+	int chooseMove(PlayerView view, MoveBuffer legalMoves, Random random);
+	
+}
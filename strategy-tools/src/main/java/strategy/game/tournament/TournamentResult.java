@@ -0,0 +1,94 @@
+/**
+ * 
+ */
+package strategy.game.tournament;
+
+import strategy.game.common.MoveResultStatus;
+
+/**
+ * Totals of a set of tournament games, counted by the final MoveResultStatus
+ * of each game. Results of separate threads are added together with add().
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class TournamentResult {
+	
+	private final long[] statusCounts = new long[MoveResultStatus.values().length];
+	private long numGames;
+	private long numMoves;
+	private long numMoveLimitDraws;
+	
+	/**
+	 * Records a finished game
+	 * @param status how the game ended
+	 * @param moves the number of moves made in the game
+	 * @param hitMoveLimit true if the game was called a draw because it ran too long
+	 */
+	public void addGame(MoveResultStatus status, int moves, boolean hitMoveLimit) {
+		statusCounts[status.ordinal()]++;
+		numGames++;
+		numMoves += moves;
+		if (hitMoveLimit) {
+			numMoveLimitDraws++;
+		}
+	}
+	
+	/**
+	 * Adds all the games of another result to this one
+	 * @param other the result to add
+	 */
+	public void add(TournamentResult other) {
+		for (int i = 0; i < statusCounts.length; i++) {
+			statusCounts[i] += other.statusCounts[i];
+		}
+		numGames += other.numGames;
+		numMoves += other.numMoves;
+		numMoveLimitDraws += other.numMoveLimitDraws;
+	}
+	
+	/**
+	 * @param status a game ending
+	 * @return the number of games that ended with the given status
+	 */
+	public long getCount(MoveResultStatus status) {
+		return statusCounts[status.ordinal()];
+	}
+	
+	/**
+	 * @return the number of games played
+	 */
+	public long getNumGames() {
+		return numGames;
+	}
+	
+	/**
+	 * @return the number of moves made over all games
+	 */
+	public long getNumMoves() {
+		return numMoves;
+	}
+	
+	/**
+	 * @return the number of draws caused by the move limit
+	 */
+	public long getNumMoveLimitDraws() {
+		return numMoveLimitDraws;
+	}
+	
+	/*
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append(numGames).append(" games, ").append(numMoves).append(" moves");
+		for (MoveResultStatus status : MoveResultStatus.values()) {
+			if (status != MoveResultStatus.OK) {
+				builder.append(", ").append(status).append(' ').append(statusCounts[status.ordinal()]);
+			}
+		}
+		builder.append(" (").append(numMoveLimitDraws).append(" by move limit)");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,207 @@
+/**
+ * 
+ */
+package strategy.game.tournament;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import strategy.common.PlayerColor;
+import strategy.common.StrategyException;
+import strategy.common.StrategyRuntimeException;
+import strategy.game.StrategyGameFactory;
+import strategy.game.common.Location;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.version.BoardSpec;
+import strategy.game.version.MoveBuffer;
+import strategy.game.version.MoveOutcome;
+import strategy.game.version.MoveValidation;
+import strategy.game.version.PlayerView;
+import strategy.game.version.StrategyGameControllerImpl;
+
+/**
+ * Plays many Epsilon games between two bots on a work stealing pool. Every game
+ * gets its own controller from the StrategyGameFactory and its own random number
+ * generator, seeded from the tournament seed and the game number, so the totals 
+ * of a tournament do not depend on the number of threads.
+ * 
+ * A player with no legal move resigns. A game that is still going after the move
+ * limit is counted as a draw.
+ * 
+ * @author Alex C
+ * @version October 18, 2026
+ */
+public class TournamentRunner {
+	
+	/** number of games a task plays itself instead of splitting them up */
+	private static final int GAMES_PER_TASK = 4;
+	
+	private final StrategyBot redBot;
+	private final StrategyBot blueBot;
+	private final Collection<PieceLocationDescriptor> redSetup;
+	private final Collection<PieceLocationDescriptor> blueSetup;
+	private final int maxMoves;
+	
+	/**
+	 * @param redBot the bot playing red
+	 * @param blueBot the bot playing blue
+	 * @param redSetup the starting configuration of the red pieces, used by every game
+	 * @param blueSetup the starting configuration of the blue pieces, used by every game
+	 * @param maxMoves the number of moves after which a game is a draw
+	 */
+	public TournamentRunner(StrategyBot redBot, StrategyBot blueBot,
+			Collection<PieceLocationDescriptor> redSetup, 
+			Collection<PieceLocationDescriptor> blueSetup, int maxMoves) {
+		this.redBot = redBot;
+		this.blueBot = blueBot;
+		this.redSetup = redSetup;
+		this.blueSetup = blueSetup;
+		this.maxMoves = maxMoves;
+	}
+	
+	/**
+	 * Plays a tournament on a new pool
+	 * @param numGames the number of games to play
+	 * @param seed the tournament seed
+	 * @param numThreads the number of threads to play on
+	 * @return the totals of all games
+	 */
+	public TournamentResult run(int numGames, long seed, int numThreads) {
+		final ForkJoinPool pool = new ForkJoinPool(numThreads);
+		try {
+			return run(numGames, seed, pool);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Plays a tournament on the given pool
+	 * @param numGames the number of games to play
+	 * @param seed the tournament seed
+	 * @param pool the pool to play on
+	 * @return the totals of all games
+	 */
+	public TournamentResult run(int numGames, long seed, ForkJoinPool pool) {
+		return pool.invoke(new GamesTask(0, numGames, seed));
+	}
+	
+	/**
+	 * Plays a single game
+	 * @param gameSeed the seed of this game
+	 * @param result the result to add the game to
+	 */
+	public void playGame(long gameSeed, TournamentResult result) {
+		final StrategyGameControllerImpl game = makeGame();
+		final BoardSpec spec = game.getBoardSpec();
+		final MoveBuffer moves = new MoveBuffer();
+		final Random random = new Random(gameSeed);
+		final PlayerView redView = new PlayerView(game, PlayerColor.RED);
+		final PlayerView blueView = new PlayerView(game, PlayerColor.BLUE);
+		
+		try {
+			game.startGame();
+		}
+		catch (StrategyException e) {
+			throw new StrategyRuntimeException("Could not start tournament game", e);
+		}
+		
+		PlayerColor color = PlayerColor.RED;
+		MoveResultStatus status = MoveResultStatus.OK;
+		int numMoves = 0;
+		
+		while (status == MoveResultStatus.OK && numMoves < maxMoves) {
+			if (game.generateLegalMoves(color, moves) == 0) {
+				// nothing left to move, so resign
+				game.tryMove(null, null, null);
+			}
+			else {
+				final int move = color == PlayerColor.RED ? redBot.chooseMove(redView, moves, random)
+						: blueBot.chooseMove(blueView, moves, random);
+				final Location from = spec.getLocation(MoveBuffer.fromOf(move));
+				final Location to = spec.getLocation(MoveBuffer.toOf(move));
+				
+				final MoveValidation validation = game.tryMove(game.getPieceAt(from).getType(), from, to);
+				if (validation != MoveValidation.OK) {
+					throw new StrategyRuntimeException("Bot made an illegal move: " + validation.getMessage());
+				}
+			}
+			
+			status = MoveOutcome.statusOf(game.getLastOutcome());
+			color = color == PlayerColor.RED ? PlayerColor.BLUE : PlayerColor.RED;
+			numMoves++;
+		}
+		
+		if (status == MoveResultStatus.OK) {
+			result.addGame(MoveResultStatus.DRAW, numMoves, true);
+		}
+		else {
+			result.addGame(status, numMoves, false);
+		}
+	}
+	
+	/**
+	 * @return a new game with the tournament setups
+	 */
+	private StrategyGameControllerImpl makeGame() {
+		try {
+			return (StrategyGameControllerImpl) StrategyGameFactory.getInstance()
+					.makeEpsilonStrategyGame(redSetup, blueSetup, null);
+		}
+		catch (StrategyException e) {
+			throw new StrategyRuntimeException("Invalid tournament setup", e);
+		}
+	}
+	
+	/**
+	 * @param seed the tournament seed
+	 * @param gameNumber the number of the game in the tournament
+	 * @return the seed of the game, spread out so neighbouring games are not related
+	 */
+	private static long gameSeed(long seed, int gameNumber) {
+		long z = seed + (gameNumber + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+	
+	/**
+	 * Plays a range of games, splitting it in half until it is small
+	 */
+	private class GamesTask extends RecursiveTask<TournamentResult> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int firstGame;
+		private final int endGame;
+		private final long seed;
+		
+		GamesTask(int firstGame, int endGame, long seed) {
+			this.firstGame = firstGame;
+			this.endGame = endGame;
+			this.seed = seed;
+		}
+		
+		@Override
+		protected TournamentResult compute() {
+			if (endGame - firstGame <= GAMES_PER_TASK) {
+				final TournamentResult result = new TournamentResult();
+				for (int i = firstGame; i < endGame; i++) {
+					playGame(gameSeed(seed, i), result);
+				}
+				return result;
+			}
+			
+			final int middle = (firstGame + endGame) >>> 1;
+			final GamesTask second = new GamesTask(middle, endGame, seed);
+			second.fork();
+			final TournamentResult result = new GamesTask(firstGame, middle, seed).compute();
+			result.add(second.join());
+			return result;
+		}
+	}
+}
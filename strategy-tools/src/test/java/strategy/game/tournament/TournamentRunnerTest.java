@@ -0,0 +1,92 @@
+/**
+ * 
+ */
+package strategy.game.tournament;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import strategy.common.PlayerColor;
+import strategy.game.common.Location2D;
+import strategy.game.common.MoveResultStatus;
+import strategy.game.common.Piece;
+import strategy.game.common.PieceLocationDescriptor;
+import strategy.game.common.PieceType;
+import strategy.game.search.MaterialEvaluator;
+
+/**
+ * @author Alex C
+ *
+ */
+public class TournamentRunnerTest {
+	
+	private static final PieceType[] playerPieces = 
+	{
+		PieceType.COLONEL, PieceType.MAJOR, PieceType.MAJOR, 
+		PieceType.CAPTAIN, PieceType.CAPTAIN, PieceType.CAPTAIN, 
+		PieceType.BOMB, PieceType.BOMB, PieceType.BOMB, PieceType.BOMB, 
+		PieceType.SERGEANT, PieceType.SERGEANT, PieceType.SERGEANT, 
+		PieceType.MINER, PieceType.MINER, PieceType.MINER, PieceType.MINER, 
+		PieceType.FIRST_LIEUTENANT, PieceType.LIEUTENANT, PieceType.SCOUT, 
+		PieceType.FLAG, PieceType.SCOUT, PieceType.SCOUT, PieceType.SCOUT, 
+		PieceType.SERGEANT, PieceType.SCOUT, PieceType.SCOUT, PieceType.SCOUT,
+		PieceType.BOMB, PieceType.FLAG, PieceType.MINER, PieceType.SPY,
+		PieceType.CAPTAIN, PieceType.MAJOR, PieceType.LIEUTENANT,
+		PieceType.FIRST_LIEUTENANT, PieceType.COLONEL, PieceType.GENERAL,
+		PieceType.MARSHAL, PieceType.BOMB
+	};
+	
+	private Collection<PieceLocationDescriptor> redCollection;
+	private Collection<PieceLocationDescriptor> blueCollection;
+	private TournamentRunner runner;
+	
+	@Before
+	public void setup() {
+		redCollection = new ArrayList<PieceLocationDescriptor>();
+		blueCollection = new ArrayList<PieceLocationDescriptor>();
+		
+		for (int i = 0; i < playerPieces.length; i++) {
+			final int j = 99 - i;
+			redCollection.add(new PieceLocationDescriptor(new Piece(playerPieces[i], PlayerColor.RED), 
+					new Location2D(i % 10, i / 10)));
+			blueCollection.add(new PieceLocationDescriptor(new Piece(playerPieces[i], PlayerColor.BLUE), 
+					new Location2D(j % 10, j / 10)));
+		}
+		
+		runner = new TournamentRunner(new RandomBot(), new RandomBot(), redCollection, blueCollection, 500);
+	}
+	
+	@Test
+	public void everyGameIsCountedTest() {
+		final TournamentResult result = runner.run(40, 7, 4);
+		
+		assertEquals(40, result.getNumGames());
+		assertEquals(0, result.getCount(MoveResultStatus.OK));
+		assertEquals(40, result.getCount(MoveResultStatus.RED_WINS) + result.getCount(MoveResultStatus.BLUE_WINS) 
+				+ result.getCount(MoveResultStatus.DRAW));
+		assertTrue(result.getNumMoveLimitDraws() <= result.getCount(MoveResultStatus.DRAW));
+		assertTrue(result.getNumMoves() > 0);
+	}
+	
+	@Test
+	public void resultDoesNotDependOnThreadsTest() {
+		final TournamentResult single = runner.run(30, 11, 1);
+		final TournamentResult parallel = runner.run(30, 11, 4);
+		
+		assertEquals(single.toString(), parallel.toString());
+	}
+	
+	@Test
+	public void searchBotBeatsRandomBotTest() {
+		final TournamentRunner searchRunner = new TournamentRunner(new SearchBot(MaterialEvaluator::new, 2000, 1), 
+				new RandomBot(), redCollection, blueCollection, 500);
+		final TournamentResult result = searchRunner.run(8, 3, 4);
+		
+		assertTrue(result.toString(), result.getCount(MoveResultStatus.RED_WINS) >= 6);
+	}
+}